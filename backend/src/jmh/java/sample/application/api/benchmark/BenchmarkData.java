@@ -0,0 +1,81 @@
+package sample.application.api.benchmark;
+
+import sample.application.api.feature.city.City;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.district.District;
+import sample.application.api.feature.product.Product;
+import sample.application.api.feature.purchase.Purchase;
+import sample.application.api.feature.purchase.PurchaseItem;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/// Creates the entity graphs used by the benchmarks, similar to the ones loaded from the database
+/// (such as a purchase with its customer, the customer city and district, and the products of its items).
+/// @author Manoel Campos
+final class BenchmarkData {
+    /// Number of items in each purchase.
+    static final int ITEMS_PER_PURCHASE = 5;
+
+    private static final PrintStream STANDARD_OUTPUT = System.out;
+
+    /** Private constructor to prevent instantiating the class */
+    private BenchmarkData() { throw new UnsupportedOperationException(); }
+
+    /// {@return a customer with its city and district}
+    /// @param id ID of the customer
+    static Customer customer(final long id) {
+        final var district = new District(1);
+        district.name = "São Paulo";
+        district.abbreviation = "SP";
+
+        final var city = new City(1, "São Paulo");
+        city.district = district;
+
+        final var customer = new Customer(id);
+        customer.name = "Customer " + id;
+        customer.socialSecurityNumber = "33184755053";
+        customer.city = city;
+        return customer;
+    }
+
+    /// {@return a purchase with its customer and [#ITEMS_PER_PURCHASE] items, each one with its product}
+    /// @param id ID of the purchase
+    static Purchase purchase(final long id) {
+        final var items = IntStream.rangeClosed(1, ITEMS_PER_PURCHASE)
+                                   .mapToObj(BenchmarkData::purchaseItem)
+                                   .collect(ArrayList<PurchaseItem>::new, List::add, List::addAll);
+
+        return new Purchase(id, customer(id), LocalDateTime.of(2025, 1, 1, 10, 0), items);
+    }
+
+    private static PurchaseItem purchaseItem(final int id) {
+        final var item = new PurchaseItem(new Product(id, "Product " + id, id * 10.5, 100));
+        item.id = (long) id;
+        item.quant = id;
+        return item;
+    }
+
+    /// {@return a list of purchases, such as the content of a page}
+    /// @param size number of purchases
+    static List<Purchase> purchases(final int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(BenchmarkData::purchase).toList();
+    }
+
+    /// Discards what is written to [System#out].
+    /// The getters of some entities print to [System#out] (to show the accessors generated by the
+    /// auto-class-accessors plugin being called), which would flood the output of the benchmarks.
+    /// The printing is still measured, but the text is not shown.
+    static void discardStandardOutput() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /// Restores the [System#out] discarded by [#discardStandardOutput()].
+    static void restoreStandardOutput() {
+        System.setOut(STANDARD_OUTPUT);
+    }
+}
@@ -0,0 +1,103 @@
+package sample.application.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Runs the JMH benchmarks, measuring the throughput (operations per millisecond)
+/// and the allocation rate (through the [GCProfiler]) of each benchmark.
+/// It's run by the `benchmark` Maven profile (see pom.xml), which passes the following system properties:
+/// - `benchmark.include`: regex of the benchmarks to run;
+/// - `benchmark.label`: name of the JSON file (inside `target/jmh`) where the results are stored,
+///   such as the hash of the current commit;
+/// - `benchmark.baseline`: optional path of a JSON file with previous results (such as from another commit),
+///   to show how much the results changed.
+/// @author Manoel Campos
+public final class BenchmarkRunner {
+    /// Bytes allocated per operation, given by the [GCProfiler].
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /** Private constructor to prevent instantiating the class */
+    private BenchmarkRunner() { throw new UnsupportedOperationException(); }
+
+    public static void main(final String[] args) throws RunnerException, IOException {
+        final var include = System.getProperty("benchmark.include", BenchmarkRunner.class.getPackageName() + ".*");
+        final var resultFile = Path.of("target", "jmh", System.getProperty("benchmark.label", "current") + ".json");
+        final var baseline = System.getProperty("benchmark.baseline", "");
+        Files.createDirectories(resultFile.getParent());
+
+        final var options = new OptionsBuilder()
+            .include(include)
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(1))
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+
+        new Runner(options).run();
+        System.out.println("Results stored at " + resultFile.toAbsolutePath());
+        if(!baseline.isBlank())
+            compare(Path.of(baseline), resultFile);
+    }
+
+    /// Prints the throughput and allocation of each benchmark in two result files,
+    /// showing how much the throughput changed from the baseline to the current results.
+    /// @param baselineFile JSON file with the baseline results
+    /// @param currentFile JSON file with the current results
+    private static void compare(final Path baselineFile, final Path currentFile) throws IOException {
+        final var baseline = readResults(baselineFile);
+        final var current = readResults(currentFile);
+        System.out.printf("%nComparison with %s%n", baselineFile);
+        System.out.printf("%-70s %15s %15s %9s %13s %13s%n", "Benchmark", "Baseline ops/ms", "Current ops/ms", "Change", "Baseline B/op", "Current B/op");
+        current.forEach((benchmark, result) -> {
+            final var previous = baseline.get(benchmark);
+            if(previous == null) {
+                System.out.printf("%-70s %15s %15.2f %9s %13s %13.1f%n", benchmark, "-", result.score(), "-", "-", result.allocation());
+                return;
+            }
+
+            final double change = (result.score() - previous.score()) / previous.score() * 100;
+            System.out.printf(
+                "%-70s %15.2f %15.2f %+8.1f%% %13.1f %13.1f%n",
+                benchmark, previous.score(), result.score(), change, previous.allocation(), result.allocation());
+        });
+    }
+
+    /// {@return a map where each key is the name of a benchmark and the value is its result}
+    /// @param file a JSON file written by JMH
+    private static Map<String, Result> readResults(final Path file) throws IOException {
+        final var results = new LinkedHashMap<String, Result>();
+        for (final JsonNode node : new ObjectMapper().readTree(file.toFile())) {
+            final var name = node.path("benchmark").asText().replace(BenchmarkRunner.class.getPackageName() + ".", "");
+            final double score = node.path("primaryMetric").path("score").asDouble();
+            final double allocation = node.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+            results.put(name, new Result(score, allocation));
+        }
+
+        return results;
+    }
+
+    /// Result of a benchmark.
+    /// @param score the throughput (operations per millisecond)
+    /// @param allocation the bytes allocated per operation
+    private record Result(double score, double allocation) {}
+}
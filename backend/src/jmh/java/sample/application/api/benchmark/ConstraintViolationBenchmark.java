@@ -0,0 +1,46 @@
+package sample.application.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.dao.DataIntegrityViolationException;
+import sample.application.api.config.ConstraintKeys;
+import sample.application.api.shared.util.ConstraintViolation;
+
+import java.util.Optional;
+
+/// Benchmarks of the conversion of database constraint violations into user-friendly messages by [ConstraintViolation],
+/// which runs for every insert, update or delete rejected by the database (including each failing item of bulk operations).
+/// The exception messages are the ones sent by the H2 database.
+/// @author Manoel Campos
+@State(Scope.Benchmark)
+public class ConstraintViolationBenchmark {
+    private final DataIntegrityViolationException foreignKeyViolation = new DataIntegrityViolationException(
+        "could not execute statement [Referential integrity constraint violation: \"%s: PUBLIC.CUSTOMER FOREIGN KEY(CITY_ID) REFERENCES PUBLIC.CITY(ID) (CAST(1 AS BIGINT))\"; SQL statement:\ndelete from city where id=? [23503-232]]"
+            .formatted(ConstraintKeys.FK_CUSTOMER__CITY.toUpperCase()));
+
+    private final DataIntegrityViolationException uniqueViolation = new DataIntegrityViolationException(
+        "could not execute statement [Unique index or primary key violation: \"PUBLIC.%sINDEX_1 ON PUBLIC.CITY(NAME NULLS FIRST) VALUES ( /* 12 */ 'Palmas' )\"; SQL statement:\ninsert into city (district_id,name,search_text,version,id) values (?,?,?,?,default) [23505-232]]"
+            .formatted(ConstraintKeys.UC_CITY_NAME.toUpperCase()));
+
+    /// A violation of a constraint that doesn't follow the naming pattern, so that no message is found.
+    private final DataIntegrityViolationException otherViolation = new DataIntegrityViolationException(
+        "could not execute statement [NULL not allowed for column \"NAME\"; SQL statement:\ninsert into city (district_id,name,search_text,version,id) values (?,?,?,?,default) [23502-232]]");
+
+    @Benchmark
+    public Optional<String> foreignKeyMessage() {
+        return ConstraintViolation.findForeignKeyMessage(foreignKeyViolation);
+    }
+
+    @Benchmark
+    public Optional<String> uniqueConstraintMessage() {
+        return ConstraintViolation.findUniqueConstraintMessage(uniqueViolation);
+    }
+
+    /// Looks for both messages in an exception that has none, as the exception handler does for other violations.
+    @Benchmark
+    public boolean noConstraintMessage() {
+        return ConstraintViolation.findForeignKeyMessage(otherViolation).isPresent() ||
+               ConstraintViolation.findUniqueConstraintMessage(otherViolation).isPresent();
+    }
+}
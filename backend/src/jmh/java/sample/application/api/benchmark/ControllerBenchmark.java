@@ -0,0 +1,122 @@
+package sample.application.api.benchmark;
+
+import io.github.manoelcampos.dtogen.DTORecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.customer.CustomerController;
+import sample.application.api.feature.customer.CustomerDTO;
+import sample.application.api.feature.customer.CustomerRepository;
+import sample.application.api.feature.customer.CustomerService;
+import sample.application.api.feature.purchase.Purchase;
+import sample.application.api.feature.purchase.PurchaseController;
+import sample.application.api.feature.purchase.PurchaseDTO;
+import sample.application.api.feature.purchase.PurchaseRepository;
+import sample.application.api.feature.purchase.PurchaseService;
+import sample.application.api.shared.controller.AbstractController;
+import sample.application.api.shared.model.AbstractBaseModel;
+import sample.application.api.shared.validator.CustomValidator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/// Benchmarks of the generic request path of [AbstractController], which runs for every entity
+/// inserted or updated (DTO to entity conversion and validation) and read as a DTO (entity to DTO conversion).
+///
+/// The private methods of the controller are called through [MethodHandle]s,
+/// so that the measured code is exactly the one run by the endpoints.
+/// Services and repositories are not called by such methods, so they are created without a Spring context.
+/// @author Manoel Campos
+@State(Scope.Benchmark)
+public class ControllerBenchmark {
+    private static final MethodHandle GET_ENTITY = privateMethod("getEntity", MethodType.methodType(AbstractBaseModel.class, Object.class));
+    private static final MethodHandle VALIDATE = privateMethod("validate", MethodType.methodType(void.class, AbstractBaseModel.class));
+
+    private CustomerController customerController;
+    private PurchaseController purchaseController;
+
+    private Customer customer;
+    private Purchase purchase;
+    private CustomerDTO customerDto;
+    private PurchaseDTO purchaseDto;
+
+    /// Empty DTOs used to call [DTORecord#fromModel(Object)], like [AbstractController#findDtoById(long)] does.
+    private CustomerDTO emptyCustomerDto;
+    private PurchaseDTO emptyPurchaseDto;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.discardStandardOutput();
+        customerController = new CustomerController(new CustomerService(unsupported(CustomerRepository.class), null, null));
+        purchaseController = new PurchaseController(new PurchaseService(unsupported(PurchaseRepository.class), null, null));
+        ReflectionTestUtils.setField(customerController, "validator", new CustomValidator<Customer>());
+        ReflectionTestUtils.setField(purchaseController, "validator", new CustomValidator<Purchase>());
+
+        customer = BenchmarkData.customer(1);
+        purchase = BenchmarkData.purchase(1);
+        emptyCustomerDto = new CustomerDTO();
+        emptyPurchaseDto = new PurchaseDTO();
+        customerDto = emptyCustomerDto.fromModel(customer);
+        purchaseDto = emptyPurchaseDto.fromModel(purchase);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkData.restoreStandardOutput();
+    }
+
+    @Benchmark
+    public Object customerDtoToEntity() throws Throwable {
+        return GET_ENTITY.invoke(customerController, customerDto);
+    }
+
+    @Benchmark
+    public Object purchaseDtoToEntity() throws Throwable {
+        return GET_ENTITY.invoke(purchaseController, purchaseDto);
+    }
+
+    @Benchmark
+    public Object customerEntityToDto() {
+        return emptyCustomerDto.fromModel(customer);
+    }
+
+    @Benchmark
+    public Object purchaseEntityToDto() {
+        return emptyPurchaseDto.fromModel(purchase);
+    }
+
+    @Benchmark
+    public void validateCustomer() throws Throwable {
+        VALIDATE.invoke(customerController, customer);
+    }
+
+    @Benchmark
+    public void validatePurchase() throws Throwable {
+        VALIDATE.invoke(purchaseController, purchase);
+    }
+
+    private static MethodHandle privateMethod(final String name, final MethodType type) {
+        try {
+            return MethodHandles.privateLookupIn(AbstractController.class, MethodHandles.lookup()).findVirtual(AbstractController.class, name, type);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Method %s not found in %s".formatted(name, AbstractController.class.getSimpleName()), e);
+        }
+    }
+
+    /// {@return a repository whose methods cannot be called}
+    /// It's used just to create the services required by the controllers, since the benchmarks don't access the database.
+    private static <R> R unsupported(final Class<R> repositoryClass) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            throw new UnsupportedOperationException("The database is not accessed by the benchmarks");
+        };
+
+        return repositoryClass.cast(Proxy.newProxyInstance(repositoryClass.getClassLoader(), new Class<?>[]{repositoryClass}, handler));
+    }
+}
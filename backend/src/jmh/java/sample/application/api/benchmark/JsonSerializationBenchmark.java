@@ -0,0 +1,70 @@
+package sample.application.api.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.purchase.Purchase;
+
+import java.io.IOException;
+import java.util.List;
+
+/// Benchmarks of the Jackson serialization of the entity graphs sent by the REST API,
+/// such as a purchase with its customer (including the city and district) and its items (including the products).
+/// The [ObjectMapper] is configured like the one created by Spring Boot.
+/// @author Manoel Campos
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    /// Number of purchases in a page, the default page size of the API.
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper mapper;
+    private JavaType purchaseListType;
+
+    private Customer customer;
+    private Purchase purchase;
+    private List<Purchase> purchases;
+    private byte[] purchasesJson;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkData.discardStandardOutput();
+        mapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        purchaseListType = mapper.getTypeFactory().constructCollectionType(List.class, Purchase.class);
+        customer = BenchmarkData.customer(1);
+        purchase = BenchmarkData.purchase(1);
+        purchases = BenchmarkData.purchases(PAGE_SIZE);
+        purchasesJson = mapper.writeValueAsBytes(purchases);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkData.restoreStandardOutput();
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws IOException {
+        return mapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] serializePurchase() throws IOException {
+        return mapper.writeValueAsBytes(purchase);
+    }
+
+    @Benchmark
+    public byte[] serializePurchasePage() throws IOException {
+        return mapper.writeValueAsBytes(purchases);
+    }
+
+    @Benchmark
+    public List<Purchase> parsePurchasePage() throws IOException {
+        return mapper.readValue(purchasesJson, purchaseListType);
+    }
+}
@@ -0,0 +1,31 @@
+package sample.application.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import sample.application.api.shared.util.StringUtil;
+
+/// Benchmarks of the [StringUtil] functions used to format validation messages and to clean input values
+/// (such as social security numbers).
+/// @author Manoel Campos
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+    private String columnName = "district_id";
+    private String camelCaseColumnName = "socialSecurityNumber";
+    private String formattedNumber = "331.847.550-53";
+
+    @Benchmark
+    public String formatColumnName() {
+        return StringUtil.formatColumnName(columnName);
+    }
+
+    @Benchmark
+    public String formatCamelCaseColumnName() {
+        return StringUtil.formatColumnName(camelCaseColumnName);
+    }
+
+    @Benchmark
+    public String onlyNumbers() {
+        return StringUtil.onlyNumbers(formattedNumber);
+    }
+}
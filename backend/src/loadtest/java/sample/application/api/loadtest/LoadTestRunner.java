@@ -0,0 +1,159 @@
+package sample.application.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/// Runs HTTP load tests against an already running backend (such as one started by the SyntheticDataApplication),
+/// sending the requests of each [Scenario] at a fixed rate by the [OpenModelLoadGenerator].
+/// It's run by the `load-test` Maven profile (see pom.xml), which passes the following system properties:
+/// - `loadtest.url`: base URL of the backend;
+/// - `loadtest.scenarios`: comma-separated names of the scenarios to run (all if empty);
+/// - `loadtest.rate`: number of requests started per second in each scenario;
+/// - `loadtest.warmup` and `loadtest.duration`: time (in seconds) of the warm-up and the measurement of each scenario;
+/// - `loadtest.items`: number of items of each purchase sent by the checkout scenario;
+/// - `loadtest.label`: name of the files (inside `target/loadtest`) where the results are stored,
+///   such as the hash of the current commit;
+/// - `loadtest.baseline`: optional path of a JSON file with previous results (such as from another commit),
+///   to show how much the results changed.
+///
+/// The results of all scenarios are stored in a JSON file and the response time histogram of each scenario
+/// is stored in an HdrHistogram log file (`<label>-<scenario>.hlog`), which can be processed by HdrHistogram tools.
+/// @author Manoel Campos
+public final class LoadTestRunner {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final long SEED = 42;
+
+    /** Private constructor to prevent instantiating the class */
+    private LoadTestRunner() { throw new UnsupportedOperationException(); }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final var baseUri = URI.create(System.getProperty("loadtest.url", "http://localhost:8080"));
+        final var scenarioNames = System.getProperty("loadtest.scenarios", "");
+        final int rate = Integer.getInteger("loadtest.rate", 100);
+        final var warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 5));
+        final var duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30));
+        final int items = Integer.getInteger("loadtest.items", 3);
+        final var label = System.getProperty("loadtest.label", "current");
+        final var baseline = System.getProperty("loadtest.baseline", "");
+        final var resultDir = Path.of("target", "loadtest");
+        Files.createDirectories(resultDir);
+
+        final List<ScenarioResult> results = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor();
+             var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).connectTimeout(TIMEOUT).build())
+        {
+            final var generator = new OpenModelLoadGenerator(client, SEED);
+            for (final var scenario : select(new Scenarios(client, baseUri, TIMEOUT).all(items), scenarioNames)) {
+                System.out.printf("Running %s at %d requests/s for %d s (after %d s of warm-up)%n", scenario.name(), rate, duration.toSeconds(), warmup.toSeconds());
+                generator.run(scenario, rate, warmup);
+                final var result = generator.run(scenario, rate, duration);
+                results.add(result);
+                writeHistogram(resultDir.resolve("%s-%s.hlog".formatted(label, scenario.name())), result);
+            }
+        }
+
+        System.out.printf("%nResponse times measured from the scheduled send time of each request:%n");
+        System.out.println(ScenarioResult.HEADER);
+        results.forEach(System.out::println);
+
+        final var resultFile = resultDir.resolve(label + ".json");
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("label", label);
+        report.put("url", baseUri.toString());
+        report.put("rate", rate);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("items", items);
+        report.put("results", results);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultFile.toFile(), report);
+        System.out.println("Results stored at " + resultFile.toAbsolutePath());
+
+        if(!baseline.isBlank())
+            compare(Path.of(baseline), resultFile);
+    }
+
+    /// {@return the scenarios to run}
+    /// @param scenarios all scenarios
+    /// @param names comma-separated names of the scenarios to run, or an empty string to run all of them
+    private static List<Scenario> select(final List<Scenario> scenarios, final String names) {
+        if(names.isBlank())
+            return scenarios;
+
+        final var selected = Arrays.stream(names.split(",")).map(String::trim).toList();
+        final var found = scenarios.stream().filter(scenario -> selected.contains(scenario.name())).toList();
+        if(found.size() < selected.size()) {
+            final var available = scenarios.stream().map(Scenario::name).toList();
+            throw new IllegalArgumentException("Unknown scenarios in %s. Available ones: %s".formatted(selected, available));
+        }
+
+        return found;
+    }
+
+    private static void writeHistogram(final Path file, final ScenarioResult result) throws IOException {
+        try (var out = new PrintStream(file.toFile())) {
+            final var writer = new HistogramLogWriter(out);
+            writer.outputComment("Response times (in microseconds) of the %s scenario at %d requests/s".formatted(result.scenario(), result.rate()));
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            writer.outputIntervalHistogram(result.responseTimes());
+        }
+    }
+
+    /// Prints the throughput, the error rate and the 99th percentile of the response time of each scenario in two result files,
+    /// showing how much the p99 changed from the baseline to the current results.
+    /// @param baselineFile JSON file with the baseline results
+    /// @param currentFile JSON file with the current results
+    private static void compare(final Path baselineFile, final Path currentFile) throws IOException {
+        final var baseline = readResults(baselineFile);
+        final var current = readResults(currentFile);
+        System.out.printf("%nComparison with %s%n", baselineFile);
+        System.out.printf("%-22s %12s %12s %10s %10s %14s %14s %9s%n",
+            "Scenario", "Baseline r/s", "Current r/s", "Baseline %", "Current %", "Baseline p99", "Current p99", "Change");
+        current.forEach((scenario, result) -> {
+            final var previous = baseline.get(scenario);
+            if(previous == null) {
+                System.out.printf("%-22s %12s %12.1f %10s %9.2f%% %14s %14.2f %9s%n",
+                    scenario, "-", result.throughput(), "-", result.errorRate(), "-", result.p99(), "-");
+                return;
+            }
+
+            final double change = (result.p99() - previous.p99()) / previous.p99() * 100;
+            System.out.printf("%-22s %12.1f %12.1f %9.2f%% %9.2f%% %14.2f %14.2f %+8.1f%%%n",
+                scenario, previous.throughput(), result.throughput(), previous.errorRate(), result.errorRate(), previous.p99(), result.p99(), change);
+        });
+    }
+
+    /// {@return a map where each key is the name of a scenario and the value is its result}
+    /// @param file a JSON file written by this class
+    private static Map<String, Summary> readResults(final Path file) throws IOException {
+        final var results = new LinkedHashMap<String, Summary>();
+        for (final JsonNode node : new ObjectMapper().readTree(file.toFile()).path("results")) {
+            final var summary = new Summary(
+                node.path("throughput").asDouble(), node.path("errorRate").asDouble(), node.path("responseTime").path("p99").asDouble());
+            results.put(node.path("scenario").asText(), summary);
+        }
+
+        return results;
+    }
+
+    /// Main results of a scenario, read from a JSON file.
+    /// @param throughput number of successful responses per second
+    /// @param errorRate percentage of failed requests
+    /// @param p99 99th percentile of the response time (in milliseconds)
+    private record Summary(double throughput, double errorRate, double p99) {}
+}
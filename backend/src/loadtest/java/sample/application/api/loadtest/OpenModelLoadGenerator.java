@@ -0,0 +1,105 @@
+package sample.application.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/// Sends the requests of a [Scenario] at a fixed arrival rate (an open workload model),
+/// no matter how long the backend takes to answer the previous requests.
+/// Each request is sent from a new virtual thread, started at the time the request was scheduled.
+///
+/// To avoid the [coordinated omission](https://www.scylladb.com/2021/04/22/on-coordinated-omission/) problem,
+/// the response time of a request is measured from the time it was scheduled to be sent,
+/// instead of the time it was actually sent.
+/// This way, if the load generator falls behind (or the backend stops accepting connections), the delay is included in the latency.
+/// The time from sending a request to receiving its response (the service time) is also recorded.
+/// @author Manoel Campos
+final class OpenModelLoadGenerator {
+    /// Highest latency (in microseconds) recorded by the histograms.
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient client;
+    private final long seed;
+
+    /// Creates a load generator.
+    /// @param client client used to send the requests
+    /// @param seed seed of the random generator used to build the requests, so that the same requests are sent in each run
+    OpenModelLoadGenerator(final HttpClient client, final long seed) {
+        this.client = client;
+        this.seed = seed;
+    }
+
+    /// Sends the requests of a scenario and waits for all the responses.
+    /// @param scenario the scenario to run
+    /// @param rate number of requests started per second
+    /// @param duration time during which the requests are started
+    /// @return the measured results
+    ScenarioResult run(final Scenario scenario, final int rate, final Duration duration) {
+        final var random = new SplittableRandom(seed);
+        final var responseTimes = new ConcurrentHistogram(HIGHEST_LATENCY, SIGNIFICANT_DIGITS);
+        final var serviceTimes = new ConcurrentHistogram(HIGHEST_LATENCY, SIGNIFICANT_DIGITS);
+        final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        final long requests = rate * duration.toSeconds();
+        final long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        final long startTime = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                final long scheduledTime = startTime + i * interval;
+                // Requests are built in this thread, so that the random generator always gives the same sequence
+                final var request = scenario.nextRequest(random);
+                waitUntil(scheduledTime);
+                executor.execute(() -> send(request, scheduledTime, responseTimes, serviceTimes, errors));
+            }
+        }
+
+        final double seconds = (System.nanoTime() - startTime) / 1e9;
+        final var errorsByType = new TreeMap<String, Long>();
+        errors.forEach((type, count) -> errorsByType.put(type, count.sum()));
+        return new ScenarioResult(scenario.name(), rate, requests, seconds, errorsByType, responseTimes, serviceTimes);
+    }
+
+    private void send(
+        final HttpRequest request, final long scheduledTime,
+        final Histogram responseTimes, final Histogram serviceTimes, final Map<String, LongAdder> errors)
+    {
+        final long sendTime = System.nanoTime();
+        String error = null;
+        try {
+            final int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if(!Scenario.isSuccess(status))
+                error = "HTTP " + status;
+        } catch (final IOException e) {
+            error = e.getClass().getSimpleName();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = e.getClass().getSimpleName();
+        }
+
+        final long endTime = System.nanoTime();
+        responseTimes.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(endTime - scheduledTime), HIGHEST_LATENCY));
+        serviceTimes.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(endTime - sendTime), HIGHEST_LATENCY));
+        if(error != null)
+            errors.computeIfAbsent(error, type -> new LongAdder()).increment();
+    }
+
+    private static void waitUntil(final long time) {
+        for (long remaining = time - System.nanoTime(); remaining > 0; remaining = time - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
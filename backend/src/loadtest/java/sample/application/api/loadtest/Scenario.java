@@ -0,0 +1,22 @@
+package sample.application.api.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/// A scripted load test scenario, which builds each request sent to the backend.
+/// @param name name that identifies the scenario in the results
+/// @param requests a function that receives a random generator (to choose the data of the request) and returns a new request
+/// @author Manoel Campos
+record Scenario(String name, Function<RandomGenerator, HttpRequest> requests) {
+    /// {@return the next request to send}
+    /// @param random the random generator used to choose the data of the request
+    HttpRequest nextRequest(final RandomGenerator random) {
+        return requests.apply(random);
+    }
+
+    /// {@return true if a response status indicates the request succeeded, false if it's an error}
+    static boolean isSuccess(final int status) {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,70 @@
+package sample.application.api.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/// Results of running a [Scenario], which are written to a JSON file.
+/// @param scenario name of the scenario
+/// @param rate number of requests started per second
+/// @param requests number of requests sent
+/// @param seconds time from sending the first request to receiving the last response
+/// @param errors number of failed requests by type of error (such as an HTTP status or an exception)
+/// @param responseTimes latencies (in microseconds) measured from the time each request was scheduled to be sent
+/// @param serviceTimes latencies (in microseconds) measured from the time each request was actually sent
+/// @author Manoel Campos
+record ScenarioResult(
+    String scenario, int rate, long requests, double seconds, Map<String, Long> errors,
+    @JsonIgnore Histogram responseTimes, @JsonIgnore Histogram serviceTimes)
+{
+    static final String HEADER = "%-22s %8s %12s %8s %10s %10s %10s %10s %12s".formatted(
+        "Scenario", "Rate", "Throughput", "Errors", "p50 (ms)", "p90 (ms)", "p99 (ms)", "max (ms)", "Service p99");
+
+    /// {@return the number of successful responses per second}
+    @JsonProperty
+    double throughput() {
+        return (requests - errorCount()) / seconds;
+    }
+
+    /// {@return the percentage of failed requests}
+    @JsonProperty
+    double errorRate() {
+        return requests == 0 ? 0 : errorCount() * 100.0 / requests;
+    }
+
+    @JsonProperty("responseTime")
+    Latency responseTime() {
+        return Latency.of(responseTimes);
+    }
+
+    @JsonProperty("serviceTime")
+    Latency serviceTime() {
+        return Latency.of(serviceTimes);
+    }
+
+    private long errorCount() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        final var latency = responseTime();
+        return "%-22s %8d %12.1f %7.2f%% %10.2f %10.2f %10.2f %10.2f %12.2f".formatted(
+            scenario, rate, throughput(), errorRate(), latency.p50(), latency.p90(), latency.p99(), latency.max(), serviceTime().p99());
+    }
+
+    /// Latency percentiles (in milliseconds) of a histogram.
+    record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+        private static Latency of(final Histogram histogram) {
+            return new Latency(
+                histogram.getMean() / 1000,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
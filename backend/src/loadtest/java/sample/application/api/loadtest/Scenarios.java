@@ -0,0 +1,121 @@
+package sample.application.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+
+/// Creates the [Scenario]s for the controllers of the backend, using data read from the backend itself
+/// (such as IDs of existing customers and products), so that they can run against any database
+/// (such as one loaded by the SyntheticDataApplication).
+/// @author Manoel Campos
+final class Scenarios {
+    /// Maximum number of rows read from each table to build the requests (the maximum page size of the API).
+    private static final int DATA_SIZE = 1000;
+
+    /// Number of pages of the list endpoints requested by the browsing scenarios.
+    private static final int PAGES = 10;
+
+    private final URI baseUri;
+    private final Duration timeout;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final long[] districtIds;
+    private final long[] cityIds;
+    private final List<String> socialSecurityNumbers;
+    private final long[] customerIds;
+    private final long[] productIds;
+
+    /// Reads the data used by the scenarios from the backend.
+    /// @param client client used to read the data
+    /// @param baseUri base URI of the backend
+    /// @param timeout maximum time to wait for each response
+    Scenarios(final HttpClient client, final URI baseUri, final Duration timeout) throws IOException, InterruptedException {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.districtIds = ids(fetch(client, "/district?fields=name&size=" + DATA_SIZE), row -> true);
+        this.cityIds = ids(fetch(client, "/city?fields=name&size=" + DATA_SIZE), row -> true);
+
+        final var customers = fetch(client, "/customer?fields=socialSecurityNumber&size=" + DATA_SIZE);
+        this.customerIds = ids(customers, row -> true);
+        this.socialSecurityNumbers = customers.stream().map(row -> row.path("socialSecurityNumber").asText()).toList();
+
+        // Only products in stock are bought
+        this.productIds = ids(fetch(client, "/product?fields=amount&size=" + DATA_SIZE), row -> row.path("amount").asInt() > 0);
+    }
+
+    /// {@return all the scenarios}
+    /// @param items number of items of each purchase sent by the checkout scenario
+    List<Scenario> all(final int items) {
+        return List.of(
+            new Scenario("district-by-id", random -> get("/district/" + pick(random, districtIds))),
+            new Scenario("city-by-id", random -> get("/city/" + pick(random, cityIds))),
+            new Scenario("browse-cities", random -> get("/city/scroll?limit=50")),
+            new Scenario("customer-by-ssn", random -> get("/customer/social-security/" + socialSecurityNumbers.get(random.nextInt(socialSecurityNumbers.size())))),
+            new Scenario("browse-products", random -> get("/product?size=20&page=" + random.nextInt(PAGES))),
+            new Scenario("purchase-history", random -> get("/purchase?size=20&page=" + random.nextInt(PAGES))),
+            new Scenario("checkout-%d-items".formatted(items), random -> post("/purchase", purchase(random, items)))
+        );
+    }
+
+    /// {@return the JSON of a new purchase of a random customer, with items for distinct random products}
+    private String purchase(final RandomGenerator random, final int items) {
+        final var purchase = mapper.createObjectNode().put("customerId", pick(random, customerIds));
+        final var itens = purchase.putArray("itens");
+        LongStream.generate(() -> pick(random, productIds))
+                  .distinct()
+                  .limit(Math.min(items, productIds.length))
+                  .forEach(productId -> itens.add(mapper.createObjectNode().put("productId", productId).put("quant", 1)));
+
+        return purchase.toString();
+    }
+
+    private HttpRequest get(final String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(final String path, final String json) {
+        return request(path).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout).header("Accept", "application/json");
+    }
+
+    /// {@return the rows in the content of a page returned by the backend}
+    /// @param path path of a list endpoint
+    private List<JsonNode> fetch(final HttpClient client, final String path) throws IOException, InterruptedException {
+        final var response = client.send(get(path), HttpResponse.BodyHandlers.ofString());
+        if(!Scenario.isSuccess(response.statusCode()))
+            throw new IllegalStateException("Error %d reading data from %s: %s".formatted(response.statusCode(), path, response.body()));
+
+        final var rows = new ArrayList<JsonNode>();
+        mapper.readTree(response.body()).path("content").forEach(rows::add);
+        if(rows.isEmpty())
+            throw new IllegalStateException("No data returned by " + path);
+
+        return rows;
+    }
+
+    private static long[] ids(final List<JsonNode> rows, final Predicate<JsonNode> filter) {
+        final long[] ids = rows.stream().filter(filter).mapToLong(row -> row.path("id").asLong()).toArray();
+        if(ids.length == 0)
+            throw new IllegalStateException("None of the %d rows read can be used to build the requests".formatted(rows.size()));
+
+        return ids;
+    }
+
+    private static long pick(final RandomGenerator random, final long[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
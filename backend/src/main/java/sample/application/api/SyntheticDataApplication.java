@@ -0,0 +1,32 @@
+package sample.application.api;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/// Starts the application after inserting synthetic data into the database by the [SyntheticDataGenerator].
+/// The volume of data and the seed are defined by the `synthetic-data.*` properties (see application.properties),
+/// which can be passed as command line arguments, such as:
+///
+/// ```bash
+/// mvn spring-boot:run -Dspring-boot.run.main-class=sample.application.api.SyntheticDataApplication \
+///     -Dspring-boot.run.arguments="--synthetic-data.customers=1000000 --synthetic-data.seed=7"
+/// ```
+///
+/// The application keeps running to be used by load tests, unless the `synthetic-data.exit` property is true.
+/// In such a case, the database must not be dropped when the application finishes
+/// (see the `spring.jpa.hibernate.ddl-auto` property).
+/// @author Manoel Campos
+public final class SyntheticDataApplication {
+    /** Private constructor to prevent instantiating the class */
+    private SyntheticDataApplication() { throw new UnsupportedOperationException(); }
+
+    public static void main(final String[] args) {
+        // The property isn't in the application.properties file, so that a default property is enough to enable the generator
+        final var context = new SpringApplicationBuilder(SampleApiApplication.class)
+                                .properties("synthetic-data.enabled=true")
+                                .run(args);
+
+        if(context.getEnvironment().getProperty("synthetic-data.exit", Boolean.class, false))
+            System.exit(SpringApplication.exit(context));
+    }
+}
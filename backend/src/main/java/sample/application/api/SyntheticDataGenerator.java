@@ -0,0 +1,413 @@
+package sample.application.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import sample.application.api.shared.service.FullTextIndexService;
+import sample.application.api.shared.service.SearchIndexService;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/// Inserts synthetic districts, cities, customers, products, purchases and purchase items
+/// when the application starts, to exercise the application with large volumes of data
+/// (such as by load tests and benchmarks).
+/// It's enabled by the `synthetic-data.enabled` property (see [SyntheticDataApplication])
+/// and the number of rows of each table is defined by the other `synthetic-data.*` properties.
+///
+/// The data follows some distributions seen in real applications:
+/// - customers and purchase items are assigned to cities and products following a [ZipfDistribution],
+///   so that a few cities have most customers and a few products are the best-sellers;
+/// - customers have valid and unique CPF numbers (the social security number);
+/// - purchases are spread over a period of time, with IDs increasing with the date.
+///
+/// The data is the same for a given seed and volume, since all values come from random generators created from the seed.
+/// The purchase dates are also the same if the `synthetic-data.last-purchase-date` property is set.
+///
+/// Rows are inserted by multi-row `insert` statements, without creating entity objects,
+/// and the new rows get IDs after the existing ones, so that the generator can be run again on an existing database.
+/// The table sequences are then restarted after the last ID (see import.sql).
+/// Since it's an [ApplicationRunner], it finishes before the [SearchIndexService] and the [FullTextIndexService]
+/// index the rows inserted outside the application.
+/// @author Manoel Campos
+@Component
+@ConditionalOnProperty(name = "synthetic-data.enabled", havingValue = "true")
+public class SyntheticDataGenerator implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /// Number of rows inserted by each `insert` statement.
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    /// The 9 first digits of the CPF of a customer are computed from its ID by `(id * multiplier + offset) mod 10^9`,
+    /// which gives a distinct number for each ID (since the multiplier is a prime number that doesn't divide 10^9).
+    private static final long CPF_MULTIPLIER = 7919;
+    private static final long CPF_OFFSET = 123_456_789;
+    private static final long CPF_BASE_LIMIT = 1_000_000_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Ana", "Maria", "João", "Pedro", "Paula", "Lucas", "Gabriel", "Juliana", "Fernanda", "Rafael",
+        "Beatriz", "Mariana", "Carlos", "José", "Antônio", "Francisca", "Helena", "Miguel", "Arthur", "Laura",
+        "Manoel", "Marta", "Larissa", "Bruno", "Camila", "Thiago", "Letícia", "Gustavo", "Aline", "Rodrigo"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+        "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+        "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Campos"
+    };
+
+    private static final String[] CITY_PREFIXES = {
+        "São", "Santa", "Nova", "Porto", "Campo", "Vila", "Rio", "Bom Jesus de", "Santo Antônio de", "Monte"
+    };
+
+    private static final String[] CITY_SUFFIXES = {
+        "Alegre", "Esperança", "Verde", "do Sul", "do Norte", "da Serra", "das Flores", "Bonito", "Grande", "Belo"
+    };
+
+    private static final String[] PRODUCTS = {
+        "Notebook", "TV", "iPhone", "Teclado", "Mouse", "Monitor", "Impressora", "Fone de Ouvido", "Cadeira", "Mesa",
+        "Câmera", "Tablet", "Smartwatch", "Geladeira", "Fogão", "Micro-ondas", "Ventilador", "Cafeteira", "Caixa de Som", "Roteador"
+    };
+
+    private static final String[] PRODUCT_MODELS = {"Pro", "Max", "Lite", "Plus", "Ultra", "Slim", "Gamer", "Básico", "Premium", "Mini"};
+
+    private final JdbcTemplate jdbc;
+    private final long seed;
+    private final int districts;
+    private final int cities;
+    private final int customers;
+    private final int products;
+    private final int purchases;
+    private final int maxItems;
+    private final double zipfExponent;
+    private final int purchaseDays;
+    private final LocalDate lastPurchaseDate;
+
+    /// Creates a generator.
+    /// @param seed seed of the random generators, which defines all the generated values
+    /// @param districts number of districts to insert (the 27 Brazilian districts are already inserted by import.sql)
+    /// @param cities number of cities to insert
+    /// @param customers number of customers to insert
+    /// @param products number of products to insert
+    /// @param purchases number of purchases to insert
+    /// @param maxItems maximum number of items in a purchase (each purchase has from 1 to this number of items)
+    /// @param zipfExponent how skewed the popularity of cities and products is (0 for a uniform distribution)
+    /// @param purchaseDays number of days the purchases are spread over, up to the last purchase date
+    /// @param lastPurchaseDate date of the last purchase (such as 2025-12-31), or an empty string to use the current date
+    public SyntheticDataGenerator(
+        final JdbcTemplate jdbc,
+        @Value("${synthetic-data.seed:42}") final long seed,
+        @Value("${synthetic-data.districts:0}") final int districts,
+        @Value("${synthetic-data.cities:1000}") final int cities,
+        @Value("${synthetic-data.customers:100000}") final int customers,
+        @Value("${synthetic-data.products:10000}") final int products,
+        @Value("${synthetic-data.purchases:200000}") final int purchases,
+        @Value("${synthetic-data.max-items:5}") final int maxItems,
+        @Value("${synthetic-data.zipf-exponent:1.0}") final double zipfExponent,
+        @Value("${synthetic-data.purchase-days:365}") final int purchaseDays,
+        @Value("${synthetic-data.last-purchase-date:}") final String lastPurchaseDate)
+    {
+        this.jdbc = jdbc;
+        this.seed = seed;
+        this.districts = districts;
+        this.cities = cities;
+        this.customers = customers;
+        this.products = products;
+        this.purchases = purchases;
+        this.maxItems = Math.max(maxItems, 1);
+        this.zipfExponent = zipfExponent;
+        this.purchaseDays = Math.max(purchaseDays, 1);
+        this.lastPurchaseDate = lastPurchaseDate.isBlank() ? LocalDate.now() : LocalDate.parse(lastPurchaseDate);
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        generate();
+    }
+
+    /// Inserts the synthetic data into the database.
+    public void generate() {
+        final long startTime = System.nanoTime();
+        logger.info(
+            "Generating synthetic data with seed {}: {} districts, {} cities, {} customers, {} products and {} purchases",
+            seed, districts, cities, customers, products, purchases);
+
+        insertDistricts(new SplittableRandom(seed));
+        insertCities(new SplittableRandom(seed + 1));
+        insertCustomers(new SplittableRandom(seed + 2));
+        insertProducts(new SplittableRandom(seed + 3));
+        insertPurchases(new SplittableRandom(seed + 4));
+        for (final var table : List.of("district", "city", "customer", "product", "purchase", "purchase_item")) {
+            restartSequence(table);
+        }
+
+        logger.info("Synthetic data generated in {} s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime));
+    }
+
+    /// Inserts the districts, which names and abbreviations are made unique by their IDs.
+    private void insertDistricts(final RandomGenerator random) {
+        long id = nextId("district");
+        try (var insert = new BulkInsert("district", "id", "name", "abbreviation")) {
+            for (int i = 0; i < districts; i++, id++) {
+                insert.add(id, "%s %s %d".formatted(pick(random, CITY_PREFIXES), pick(random, CITY_SUFFIXES), id), "Z" + Long.toString(id, 36).toUpperCase());
+            }
+        }
+    }
+
+    /// Inserts the cities, uniformly spread over all districts.
+    /// City names are made unique by their IDs.
+    private void insertCities(final RandomGenerator random) {
+        final long[] districtIds = ids("district");
+        long id = nextId("city");
+        try (var insert = new BulkInsert("city", "id", "name", "district_id")) {
+            for (int i = 0; i < cities; i++, id++) {
+                final var name = "%s %s %d".formatted(pick(random, CITY_PREFIXES), pick(random, CITY_SUFFIXES), id);
+                insert.add(id, name, districtIds[random.nextInt(districtIds.length)]);
+            }
+        }
+    }
+
+    /// Inserts the customers, assigning them to cities following a Zipf distribution.
+    /// Each customer has a CPF computed from its ID, so that the CPFs are unique.
+    /// IDs whose CPF would be invalid or already used by an existing customer are skipped.
+    private void insertCustomers(final RandomGenerator random) {
+        final long[] cityIds = shuffle(ids("city"), random);
+        final var cityDistribution = new ZipfDistribution(cityIds.length, zipfExponent);
+        final Set<String> usedCpfs = findCpfsNotGenerated();
+        long id = nextId("customer");
+        try (var insert = new BulkInsert("customer", "id", "name", "social_security_number", "city_id")) {
+            for (int i = 0; i < customers; id++) {
+                final String cpf = cpf(id);
+                if(cpf == null || usedCpfs.contains(cpf))
+                    continue;
+
+                insert.add(id, personName(random), cpf, cityIds[cityDistribution.sample(random)]);
+                i++;
+            }
+        }
+    }
+
+    private void insertProducts(final RandomGenerator random) {
+        long id = nextId("product");
+        try (var insert = new BulkInsert("product", "id", "description", "price", "amount")) {
+            for (int i = 0; i < products; i++, id++) {
+                final var description = "%s %s %d".formatted(pick(random, PRODUCTS), pick(random, PRODUCT_MODELS), 100 + random.nextInt(9900));
+                // Log-normal prices: most products are cheap and a few are expensive
+                final var price = BigDecimal.valueOf(Math.max(Math.exp(4 + random.nextGaussian()), 1)).setScale(2, RoundingMode.HALF_UP);
+                // 5% of the products are out of stock
+                final int amount = random.nextDouble() < 0.05 ? 0 : random.nextInt(1, 1001);
+                insert.add(id, description, price, amount);
+            }
+        }
+    }
+
+    /// Inserts the purchases of uniformly chosen customers, spread over the period defined by the
+    /// `synthetic-data.purchase-days` and `synthetic-data.last-purchase-date` properties.
+    /// The products of the items follow a Zipf distribution and the items of a purchase have distinct products.
+    /// The stock of the products is not changed.
+    private void insertPurchases(final RandomGenerator random) {
+        if(purchases == 0)
+            return;
+
+        final long[] customerIds = ids("customer");
+        final long[] productIds = shuffle(ids("product"), random);
+        final var productDistribution = new ZipfDistribution(productIds.length, zipfExponent);
+        final var firstDateTime = lastPurchaseDate.plusDays(1).atStartOfDay().minusDays(purchaseDays);
+        final double secondsPerPurchase = ChronoUnit.SECONDS.between(firstDateTime, lastPurchaseDate.plusDays(1).atStartOfDay()) / (double) purchases;
+
+        long purchaseId = nextId("purchase");
+        long itemId = nextId("purchase_item");
+        try (var purchaseInsert = new BulkInsert("purchase", "id", "customer_id", "date_time");
+             var itemInsert = new BulkInsert("purchase_item", purchaseInsert, "id", "purchase_id", "product_id", "quant"))
+        {
+            for (int i = 0; i < purchases; i++, purchaseId++) {
+                final LocalDateTime dateTime = firstDateTime.plusSeconds((long) ((i + random.nextDouble()) * secondsPerPurchase));
+                purchaseInsert.add(purchaseId, customerIds[random.nextInt(customerIds.length)], dateTime);
+
+                final int items = Math.min(random.nextInt(1, maxItems + 1), productIds.length);
+                final var purchaseProductIds = new HashSet<Long>();
+                while (purchaseProductIds.size() < items) {
+                    final long productId = productIds[productDistribution.sample(random)];
+                    if(purchaseProductIds.add(productId)) {
+                        // Most items have a single unit
+                        final int quant = random.nextDouble() < 0.8 ? 1 : random.nextInt(2, 6);
+                        itemInsert.add(itemId++, purchaseId, productId, quant);
+                    }
+                }
+            }
+        }
+    }
+
+    /// {@return a valid CPF (only digits) computed from an ID, or null if the CPF would have all digits equal (which is invalid)}
+    /// @param id the ID of a customer
+    static @Nullable String cpf(final long id) {
+        final long base = Math.floorMod(id * CPF_MULTIPLIER + CPF_OFFSET, CPF_BASE_LIMIT);
+        final var digits = new int[11];
+        long remaining = base;
+        for (int i = 8; i >= 0; i--, remaining /= 10) {
+            digits[i] = (int) (remaining % 10);
+        }
+
+        if(Arrays.stream(digits, 0, 9).allMatch(digit -> digit == digits[0]))
+            return null;
+
+        digits[9] = cpfCheckDigit(digits, 9);
+        digits[10] = cpfCheckDigit(digits, 10);
+        final var cpf = new StringBuilder(11);
+        for (final int digit : digits) {
+            cpf.append(digit);
+        }
+
+        return cpf.toString();
+    }
+
+    /// {@return the check digit at a given position of a CPF}
+    /// @param digits the CPF digits, where the ones before the position are already filled
+    /// @param position position of the check digit (9 or 10)
+    private static int cpfCheckDigit(final int[] digits, final int position) {
+        int sum = 0;
+        for (int i = 0; i < position; i++) {
+            sum += digits[i] * (position + 1 - i);
+        }
+
+        final int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    /// {@return the CPFs of the existing customers which weren't computed from their IDs by [#cpf(long)]}
+    /// They are the only ones that may be equal to the CPFs of the new customers (such as the ones inserted by import.sql).
+    private Set<String> findCpfsNotGenerated() {
+        final Set<String> cpfs = new HashSet<>();
+        jdbc.query("select id, social_security_number from customer", rs -> {
+            final String cpf = rs.getString(2);
+            if(!cpf.equals(cpf(rs.getLong(1))))
+                cpfs.add(cpf);
+        });
+
+        return cpfs;
+    }
+
+    private static String personName(final RandomGenerator random) {
+        final var name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        return random.nextBoolean() ? name + " " + pick(random, LAST_NAMES) : name;
+    }
+
+    private static String pick(final RandomGenerator random, final String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /// {@return the IDs of all rows in a table, in ascending order}
+    private long[] ids(final String table) {
+        final var count = jdbc.queryForObject("select count(*) from " + table, Integer.class);
+        final var ids = new long[count == null ? 0 : count];
+        final int[] index = {0};
+        jdbc.query("select id from %s order by id".formatted(table), rs -> {
+            if(index[0] < ids.length)
+                ids[index[0]++] = rs.getLong(1);
+        });
+
+        if(index[0] == 0)
+            throw new IllegalStateException("There are no rows in the %s table to generate the synthetic data".formatted(table));
+
+        return Arrays.copyOf(ids, index[0]);
+    }
+
+    /// Shuffles an array of IDs, so that the most frequent ranks of a [ZipfDistribution] are not the first IDs.
+    /// @return the given array
+    private static long[] shuffle(final long[] ids, final RandomGenerator random) {
+        for (int i = ids.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+
+        return ids;
+    }
+
+    /// {@return the ID for the next row inserted in a table, which is greater than all existing IDs}
+    private long nextId(final String table) {
+        final var maxId = jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return (maxId == null ? 0 : maxId) + 1;
+    }
+
+    /// Restarts the sequence of a table after the last ID.
+    /// Since Hibernate reserves blocks of 50 IDs ending at the value got from a sequence,
+    /// the sequence is restarted at a value at least 50 units greater than the last ID (see import.sql).
+    private void restartSequence(final String table) {
+        final var maxId = jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        jdbc.execute("alter sequence %s_seq restart with %d".formatted(table, maxId + 100));
+    }
+
+    /// Buffers rows to be inserted into a table by multi-row `insert` statements,
+    /// each one with up to [#ROWS_PER_STATEMENT] rows.
+    /// Rows referencing the ones of a parent table (such as purchase items referencing purchases)
+    /// are only inserted after the buffered rows of the parent table, to meet the foreign key constraints.
+    private final class BulkInsert implements AutoCloseable {
+        private final String table;
+        private final @Nullable BulkInsert parent;
+        private final String[] columns;
+        private final List<Object> values = new ArrayList<>();
+        private final String fullStatement;
+        private long rows;
+
+        BulkInsert(final String table, final String... columns) {
+            this(table, null, columns);
+        }
+
+        BulkInsert(final String table, final @Nullable BulkInsert parent, final String... columns) {
+            this.table = table;
+            this.parent = parent;
+            this.columns = columns;
+            this.fullStatement = statement(ROWS_PER_STATEMENT);
+        }
+
+        void add(final Object... row) {
+            values.addAll(Arrays.asList(row));
+            if(values.size() == ROWS_PER_STATEMENT * columns.length)
+                flush();
+        }
+
+        void flush() {
+            if(values.isEmpty())
+                return;
+
+            if(parent != null)
+                parent.flush();
+
+            final int rowCount = values.size() / columns.length;
+            jdbc.update(rowCount == ROWS_PER_STATEMENT ? fullStatement : statement(rowCount), values.toArray());
+            values.clear();
+            rows += rowCount;
+        }
+
+        private String statement(final int rowCount) {
+            final var row = "(" + "?, ".repeat(columns.length - 1) + "?)";
+            return "insert into %s(%s) values %s".formatted(table, String.join(", ", columns), String.join(", ", Collections.nCopies(rowCount, row)));
+        }
+
+        @Override
+        public void close() {
+            flush();
+            logger.info("{} synthetic rows inserted into {}", rows, table);
+        }
+    }
+}
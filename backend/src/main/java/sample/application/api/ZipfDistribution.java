@@ -0,0 +1,38 @@
+package sample.application.api;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/// Samples ranks following a [Zipf distribution](https://en.wikipedia.org/wiki/Zipf%27s_law),
+/// where the probability of the rank `k` (starting at 1) is proportional to `1/k^exponent`.
+/// This way, a few items (such as the best-selling products) are chosen much more often than the others.
+///
+/// The cumulative probabilities are computed once, so that each sample is a binary search.
+/// @author Manoel Campos
+final class ZipfDistribution {
+    /// The cumulative (not normalized) weight of each rank.
+    private final double[] cumulativeWeights;
+
+    /// Creates a distribution.
+    /// @param size number of ranks (items)
+    /// @param exponent how skewed the distribution is: 0 means a uniform distribution and larger values make the first ranks more frequent
+    ZipfDistribution(final int size, final double exponent) {
+        if(size <= 0)
+            throw new IllegalArgumentException("The size must be greater than zero");
+
+        this.cumulativeWeights = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulativeWeights[rank] = sum;
+        }
+    }
+
+    /// {@return a random rank, from 0 (the most frequent) to size-1}
+    /// @param random the generator of random numbers
+    int sample(final RandomGenerator random) {
+        final double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        final int index = Arrays.binarySearch(cumulativeWeights, value);
+        return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+    }
+}
@@ -0,0 +1,24 @@
+package sample.application.api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/// Allows clients to send and receive [CBOR](https://cbor.io) (a compact binary version of JSON)
+/// instead of JSON, by using the `application/cbor` media type in the `Accept` and `Content-Type` headers.
+/// CBOR responses are smaller and faster to parse, which is useful for service-to-service clients.
+/// JSON is still the default format when the client doesn't request CBOR.
+///
+/// The converter is created from the [Jackson2ObjectMapperBuilder] configured by Spring Boot,
+/// so that the same Jackson settings and modules used for JSON are used for CBOR.
+/// It replaces the CBOR converter Spring would create with the default settings, at the same position (after the JSON one).
+/// @author Manoel Campos
+@Configuration
+public class CborConfig {
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
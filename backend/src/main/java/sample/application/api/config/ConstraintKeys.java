@@ -20,7 +20,7 @@ import sample.application.api.shared.util.ConstraintViolation;
 ///
 /// The constraints are centralized here only to allow documentation of this format for all UCs.
 ///
-/// @see AbstractController#update(long, Object)
+/// @see AbstractController#update(long, Object, org.springframework.web.context.request.WebRequest)
 /// @see AbstractController#insert(Object)
 public final class ConstraintKeys {
     /** Private constructor to avoid instantiating the class. */
@@ -38,4 +38,7 @@ public final class ConstraintKeys {
 
     public static final String FK_ITEM__ORDER = "fk_item__order";
     public static final String FK_ORDER_ITEM__PRODUCT = "fk_order_item__product";
+
+    public static final String UC_PRODUCT_STOCK_STRIPE = "uc_product_stock_stripe__product__stripe___";
+    public static final String FK_PRODUCT_STOCK_STRIPE__PRODUCT = "fk_product_stock_stripe__product";
 }
@@ -0,0 +1,23 @@
+package sample.application.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/// Creates the JDBC connection pool used by JPA, configured by the `spring.datasource` properties.
+/// Spring Boot doesn't create a JDBC [javax.sql.DataSource] when an R2DBC connection factory exists
+/// (which is used by the reactive read API), so it must be created explicitly,
+/// the same way Spring Boot does.
+/// @author Manoel Campos
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
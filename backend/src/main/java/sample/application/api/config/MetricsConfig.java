@@ -0,0 +1,94 @@
+package sample.application.api.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import sample.application.api.shared.controller.AbstractReactiveController;
+import sample.application.api.shared.controller.AbstractSearchController;
+
+/// Tags the request and data access metrics with the entity they handle,
+/// so that the load of each entity can be seen, even though all of them share
+/// the same base controllers, services and repositories:
+/// - the `http.server.requests` timer gets the `entity` and `operation` tags
+///   (such as `entity=Customer` and `operation=findBySocialSecurityNumber`),
+///   besides the `outcome` and `status` tags added by Spring;
+/// - the `spring.data.repository.invocations` timer gets the `entity` tag,
+///   besides the `repository`, `method` and `state` (outcome) tags added by Spring Boot.
+///
+/// The Hibernate statistics (such as `hibernate.query.executions`, `hibernate.entities.loads`,
+/// `hibernate.second.level.cache.requests` and `hibernate.flushes`) and
+/// the connection pool metrics (`hikaricp.connections.*`) are published by Spring Boot.
+/// All of them are available at `/actuator/metrics` and `/actuator/prometheus`.
+/// @author Manoel Campos
+@Configuration
+public class MetricsConfig {
+    /// Value of the tags when the entity or operation is unknown,
+    /// since all the metrics with the same name must have the same tags.
+    private static final String NONE = "none";
+
+    private static final String ENTITY = "entity";
+    private static final String OPERATION = "operation";
+
+    /// Entity of each controller or repository, to avoid resolving the generic types in every request.
+    private static final ClassValue<String> ENTITY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return entityName(type);
+        }
+    };
+
+    @Bean
+    public ServerRequestObservationConvention entityRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(final ServerRequestObservationContext context) {
+                final var handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                final var keyValues = super.getLowCardinalityKeyValues(context);
+                if(handler instanceof final HandlerMethod method)
+                    return keyValues.and(KeyValue.of(ENTITY, ENTITY_NAMES.get(method.getBeanType())), KeyValue.of(OPERATION, method.getMethod().getName()));
+
+                return keyValues.and(KeyValue.of(ENTITY, NONE), KeyValue.of(OPERATION, NONE));
+            }
+        };
+    }
+
+    @Bean
+    public RepositoryTagsProvider entityRepositoryTagsProvider() {
+        return new DefaultRepositoryTagsProvider() {
+            @Override
+            public Iterable<Tag> repositoryTags(final RepositoryMethodInvocation invocation) {
+                return Tags.of(super.repositoryTags(invocation)).and(ENTITY, ENTITY_NAMES.get(invocation.getRepositoryInterface()));
+            }
+        };
+    }
+
+    /// {@return the simple name of the entity handled by a controller or repository, or [#NONE] if it's not known}
+    /// For reactive controllers, it's the name of the view class.
+    /// @param type class of a controller or interface of a repository
+    private static String entityName(final Class<?> type) {
+        final Class<?> genericType;
+        if(AbstractSearchController.class.isAssignableFrom(type))
+            genericType = AbstractSearchController.class;
+        else if(AbstractReactiveController.class.isAssignableFrom(type))
+            genericType = AbstractReactiveController.class;
+        else if(Repository.class.isAssignableFrom(type))
+            genericType = Repository.class;
+        else return NONE;
+
+        final var typeArguments = GenericTypeResolver.resolveTypeArguments(type, genericType);
+        return typeArguments == null || typeArguments[0] == null ? NONE : typeArguments[0].getSimpleName();
+    }
+}
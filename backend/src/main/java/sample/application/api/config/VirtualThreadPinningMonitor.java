@@ -0,0 +1,85 @@
+package sample.application.api.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/// Logs the code that pins the carrier thread of a virtual thread,
+/// such as blocking I/O (like a JDBC call) inside a `synchronized` block.
+/// While pinned, a virtual thread keeps its carrier (platform) thread blocked,
+/// so that other virtual threads cannot run on it.
+/// If many requests are pinned at the same time, the application behaves
+/// as if it had just a few platform threads.
+///
+/// It listens to the `jdk.VirtualThreadPinned` Java Flight Recorder (JFR) event in the running JVM
+/// and logs the stack trace of each place where a virtual thread was pinned for longer than a threshold.
+/// Each distinct stack trace is logged only once.
+/// It's enabled by the `threads.pinning-detection.enabled` property.
+/// @author Manoel Campos
+/// @see <a href="https://docs.oracle.com/en/java/javase/25/core/virtual-threads.html">Virtual Threads</a>
+@Component
+@ConditionalOnProperty(name = "threads.pinning-detection.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream stream;
+    private final Set<String> reportedStackTraces = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pinnedCount = new AtomicLong();
+
+    /// Starts listening to the pinning events.
+    /// @param threshold minimum time a virtual thread must be pinned to be reported
+    public VirtualThreadPinningMonitor(@Value("${threads.pinning-detection.threshold:20ms}") final Duration threshold) {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        logger.info("Virtual thread pinning detection enabled for pinning longer than {} ms", threshold.toMillis());
+    }
+
+    private void report(final RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        final String stackTrace = stackTrace(event);
+        if(reportedStackTraces.add(stackTrace)) {
+            logger.warn("Virtual thread pinned its carrier thread for {} ms at:\n{}", event.getDuration().toMillis(), stackTrace);
+        }
+    }
+
+    private static String stackTrace(final RecordedEvent event) {
+        final var stackTrace = event.getStackTrace();
+        if(stackTrace == null)
+            return "\t(stack trace not available)";
+
+        return stackTrace.getFrames().stream()
+                         .filter(RecordedFrame::isJavaFrame)
+                         .map(VirtualThreadPinningMonitor::toString)
+                         .collect(Collectors.joining("\n"));
+    }
+
+    private static String toString(final RecordedFrame frame) {
+        final var method = frame.getMethod();
+        return "\tat %s.%s(line %d)".formatted(method.getType().getName(), method.getName(), frame.getLineNumber());
+    }
+
+    /// {@return the number of times a virtual thread was pinned for longer than the threshold, since the application started}
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @PreDestroy
+    void close() {
+        stream.close();
+    }
+}
@@ -4,21 +4,33 @@ import io.github.manoelcampos.dtogen.DTO;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import sample.application.api.config.ConstraintKeys;
 import sample.application.api.feature.district.District;
 import sample.application.api.shared.model.AbstractBaseModel;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.service.FullTextIndexListener;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /// A City somewhere in the world.
 /// See [AbstractBaseModel] for the reason why all atributes are public.
+/// Since cities rarely change, they are kept in the Hibernate second-level cache
+/// (whose region is configured in the application.conf file).
+/// The [FullTextIndexListener] is required since the city name is indexed with the customers.
 /// @author Manoel Campos
 @Entity
+@EntityListeners(FullTextIndexListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "city")
 @Table (uniqueConstraints = {
     @UniqueConstraint(name = ConstraintKeys.UC_CITY_NAME, columnNames = "name"),
-})
+}, indexes = @Index(name = "ix_city_search_text", columnList = "search_text"))
 @DTO
-public class City extends AbstractBaseModel {
+public class City extends AbstractSearchableModel {
     @NotNull @NotBlank
     public String name;
 
@@ -64,4 +76,14 @@ public class City extends AbstractBaseModel {
 
         this.name = descricao;
     }
+
+    @Override
+    public List<?> relatedEntities() {
+        return Arrays.asList(district);
+    }
+
+    @Override
+    public String searchableText() {
+        return name;
+    }
 }
@@ -1,13 +1,33 @@
 package sample.application.api.feature.city;
 
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import sample.application.api.shared.controller.AbstractController;
+import sample.application.api.shared.controller.AbstractSearchableController;
+import sample.application.api.shared.service.AutocompleteIndex;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/city")
-public class CityController extends AbstractController<City, CityDTO, CityRepository, CityService> {
+public class CityController extends AbstractSearchableController<City, CityDTO, CityRepository, CityService> {
     public CityController(final CityService service) {
         super(CityDTO.class, service);
     }
+
+    /// Suggests cities whose name starts with a given text, ignoring case and accents,
+    /// such as `GET /city/autocomplete?q=sao&limit=10`.
+    /// It's meant to be called as the user types, so the database is not accessed.
+    /// @param q the beginning of the city name
+    /// @param limit maximum number of cities to return
+    /// @return the ID and name of the cities found
+    /// @see CityService#autocomplete(String, int)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteIndex.Suggestion>> autocomplete(
+        @RequestParam final String q, @RequestParam(defaultValue = "10") final int limit)
+    {
+        return ResponseEntity.ok(getService().autocomplete(q, limit));
+    }
 }
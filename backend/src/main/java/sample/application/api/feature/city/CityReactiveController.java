@@ -0,0 +1,19 @@
+package sample.application.api.feature.city;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import sample.application.api.shared.controller.AbstractReactiveController;
+
+@RestController
+@RequestMapping("/reactive/city")
+public class CityReactiveController extends AbstractReactiveController<CityView, CityReactiveRepository> {
+    public CityReactiveController(final CityReactiveRepository repository) {
+        super(CityView.class, repository);
+    }
+
+    @Override
+    protected Flux<CityView> findByPattern(final String pattern) {
+        return getRepository().findByNameLikeOrderByIdAsc(pattern);
+    }
+}
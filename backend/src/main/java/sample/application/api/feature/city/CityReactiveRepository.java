@@ -0,0 +1,12 @@
+package sample.application.api.feature.city;
+
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import sample.application.api.shared.ReactiveReadRepository;
+
+@Repository
+public interface CityReactiveRepository extends ReactiveReadRepository<CityView> {
+    /// {@return a [Flux] emitting the cities whose name matches a given pattern, sorted by ID}
+    /// @param name a pattern such as `São%`
+    Flux<CityView> findByNameLikeOrderByIdAsc(String name);
+}
@@ -1,11 +1,15 @@
 package sample.application.api.feature.city;
 
 import org.springframework.stereotype.Service;
-import sample.application.api.shared.service.AbstractCrudService;
+import sample.application.api.shared.service.AbstractSearchableService;
+import sample.application.api.shared.service.Autocomplete;
+import sample.application.api.shared.service.SearchIndexService;
 
+/// City names are kept in memory to be suggested as the user types (see [CityController#autocomplete(String, int)]).
 @Service
-public class CityService extends AbstractCrudService<City, CityRepository> {
-    public CityService(final CityRepository repository) {
-        super(repository);
+@Autocomplete
+public class CityService extends AbstractSearchableService<City, CityRepository> {
+    public CityService(final CityRepository repository, final SearchIndexService searchIndex) {
+        super(repository, searchIndex);
     }
 }
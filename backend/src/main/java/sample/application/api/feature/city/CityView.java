@@ -0,0 +1,10 @@
+package sample.application.api.feature.city;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/// A read-only view of a [City], read through R2DBC by the [CityReactiveController].
+/// @param districtId ID of the [sample.application.api.feature.district.District] of the city
+@Table("city")
+public record CityView(@Id long id, String name, long districtId) {
+}
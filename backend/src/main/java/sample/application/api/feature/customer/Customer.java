@@ -3,19 +3,32 @@ package sample.application.api.feature.customer;
 import io.github.manoelcampos.dtogen.DTO;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import sample.application.api.config.ConstraintKeys;
 import sample.application.api.feature.city.City;
 import sample.application.api.shared.model.AbstractBaseModel;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.model.FullTextIndexed;
+import sample.application.api.shared.service.FullTextIndexListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /// See [AbstractBaseModel] for the reason why all atributes are public.
 /// @author Manoel Campos
 @Entity @DTO
-public class Customer extends AbstractBaseModel {
+@Table(indexes = @Index(name = "ix_customer_search_text", columnList = "search_text"))
+@EntityListeners(FullTextIndexListener.class)
+public class Customer extends AbstractSearchableModel implements FullTextIndexed {
     @NotNull @NotBlank
     public String name;
 
@@ -38,4 +51,23 @@ public class Customer extends AbstractBaseModel {
     public Customer(final long id) {
         super(id);
     }
+
+    @Override
+    public List<?> relatedEntities() {
+        return Arrays.asList(city);
+    }
+
+    @Override
+    public String searchableText() {
+        return name;
+    }
+
+    @Override
+    public Map<String, String> fullTextFields() {
+        final var fields = new HashMap<String, String>();
+        fields.put("name", name);
+        fields.put("socialSecurityNumber", socialSecurityNumber);
+        fields.put("city", city == null ? null : city.getName());
+        return fields;
+    }
 }
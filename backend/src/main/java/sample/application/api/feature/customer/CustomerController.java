@@ -1,16 +1,20 @@
 package sample.application.api.feature.customer;
 
 import org.hibernate.validator.constraints.br.CPF;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import sample.application.api.shared.controller.AbstractController;
+import sample.application.api.shared.controller.AbstractSearchableController;
 
 @RestController
 @RequestMapping("/customer")
-public class CustomerController extends AbstractController<Customer, CustomerDTO, CustomerRepository, CustomerService> {
+public class CustomerController extends AbstractSearchableController<Customer, CustomerDTO, CustomerRepository, CustomerService> {
     public CustomerController(final CustomerService service) {
         super(CustomerDTO.class, service);
     }
@@ -22,4 +26,23 @@ public class CustomerController extends AbstractController<Customer, CustomerDTO
                     .map(ResponseEntity::ok)
                     .orElseThrow(() -> newNotFoundException("%s não encontrado para o social security " + number));
     }
+
+    /// Finds customers by words (or the beginning of words) in their name, social security number or city name, ranked by relevance,
+    /// such as `GET /customer/fulltext?q=maria+porto&page=0&size=20`.
+    /// @param q the words to search for
+    /// @param pageable the page requested by the client (its sort order is ignored)
+    /// @return a [PagedModel] containing the customers found in the page and the total number of customers and pages
+    /// @see CustomerService#fullTextSearch(String, Pageable)
+    @GetMapping("/fulltext")
+    public ResponseEntity<PagedModel<Customer>> fullTextSearch(@RequestParam final String q, final Pageable pageable) {
+        return pageResponse(getService().fullTextSearch(q, pageable));
+    }
+
+    /// Rebuilds the full-text index of all customers, such as `POST /customer/fulltext/rebuild`.
+    /// It's required when the database is changed without using the application.
+    /// @return the number of customers indexed
+    @PostMapping("/fulltext/rebuild")
+    public ResponseEntity<Long> rebuildFullTextIndex() {
+        return ResponseEntity.ok(getService().rebuildFullTextIndex());
+    }
 }
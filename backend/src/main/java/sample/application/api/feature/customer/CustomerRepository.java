@@ -1,13 +1,13 @@
 package sample.application.api.feature.customer;
 
 import org.springframework.stereotype.Repository;
-import sample.application.api.shared.EntityRepository;
+import sample.application.api.shared.SearchableRepository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CustomerRepository extends EntityRepository<Customer> {
+public interface CustomerRepository extends SearchableRepository<Customer> {
     Optional<Customer> findBySocialSecurityNumber(String socialSecurityNumber);
 
     /// {@return list of clients whose name contains a given partial value}
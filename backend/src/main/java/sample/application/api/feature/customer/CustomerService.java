@@ -1,15 +1,50 @@
 package sample.application.api.feature.customer;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import sample.application.api.shared.service.AbstractCrudService;
+import sample.application.api.feature.city.City;
+import sample.application.api.feature.district.District;
+import sample.application.api.shared.service.AbstractSearchableService;
+import sample.application.api.shared.service.EntityCache;
+import sample.application.api.shared.service.FullTextIndexService;
+import sample.application.api.shared.service.SearchIndexService;
 import sample.application.api.shared.util.StringUtil;
 
 import java.util.Optional;
 
+/// Customers are cached, since they are loaded for every purchase made.
+/// The cache is cleared when a city or district changes, since they are included in the cached customers.
 @Service
-public class CustomerService extends AbstractCrudService<Customer, CustomerRepository> {
-    public CustomerService(final CustomerRepository repository) {
-        super(repository);
+@EntityCache(invalidatedBy = {City.class, District.class})
+public class CustomerService extends AbstractSearchableService<Customer, CustomerRepository> {
+    private final FullTextIndexService fullTextIndex;
+
+    public CustomerService(
+        final CustomerRepository repository, final SearchIndexService searchIndex,
+        final FullTextIndexService fullTextIndex)
+    {
+        super(repository, searchIndex);
+        this.fullTextIndex = fullTextIndex;
+        // The city name is indexed with the customers
+        fullTextIndex.reindexOnChange(Customer.class, "city", City.class);
+    }
+
+    /// Finds customers by words (or the beginning of words) in their name, social security number or city name,
+    /// ranked by relevance.
+    /// @param text the words to search for, such as "maria porto"
+    /// @param pageable the page to get
+    /// @return a page of the customers found
+    /// @see Customer#fullTextFields()
+    public Page<Customer> fullTextSearch(final String text, final Pageable pageable) {
+        return fullTextIndex.search(Customer.class, text, pageable);
+    }
+
+    /// Rebuilds the full-text index of all customers.
+    /// @return the number of customers indexed
+    /// @see FullTextIndexService#rebuild(Class)
+    public long rebuildFullTextIndex() {
+        return fullTextIndex.rebuild(Customer.class);
     }
 
     public Optional<Customer> findBySocialSecurityNumber(final String socialSecurityNumber) {
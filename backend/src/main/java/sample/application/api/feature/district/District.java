@@ -1,26 +1,35 @@
 package sample.application.api.feature.district;
 
 import io.github.manoelcampos.dtogen.DTO;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import sample.application.api.config.ConstraintKeys;
 import sample.application.api.shared.model.AbstractBaseModel;
+import sample.application.api.shared.model.AbstractSearchableModel;
 
 import java.util.Objects;
 
 // Represents a District (Province) of a Country.
 /// See [AbstractBaseModel] for the reason why all atributes are public.
+/// Since districts rarely change, they are kept in the Hibernate second-level cache
+/// (whose region is configured in the application.conf file).
 /// @author Manoel Campos
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "district")
 @Table(uniqueConstraints = {
     @UniqueConstraint(name = ConstraintKeys.UC_STATE_NAME, columnNames = "name"),
     @UniqueConstraint(name = ConstraintKeys.UC_STATE_ABBREVIATION, columnNames = "abbreviation")
-})
+}, indexes = @Index(name = "ix_district_search_text", columnList = "search_text"))
 @DTO
-public class District extends AbstractBaseModel {
+public class District extends AbstractSearchableModel {
     @NotNull @NotBlank
     public String name;
 
@@ -51,4 +60,9 @@ public class District extends AbstractBaseModel {
         this.name = Objects.requireNonNullElse(name, "");
         System.out.println("Setting district.name: " + this.name);
     }
+
+    @Override
+    public String searchableText() {
+        return name;
+    }
 }
@@ -2,11 +2,11 @@ package sample.application.api.feature.district;
 
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import sample.application.api.shared.controller.AbstractController;
+import sample.application.api.shared.controller.AbstractSearchableController;
 
 @RestController
 @RequestMapping("/district")
-public class DistrictController extends AbstractController<District, DistrictDTO, DistrictRepository, DistrictService> {
+public class DistrictController extends AbstractSearchableController<District, DistrictDTO, DistrictRepository, DistrictService> {
     public DistrictController(final DistrictService service) {
         super(DistrictDTO.class, service);
     }
@@ -0,0 +1,19 @@
+package sample.application.api.feature.district;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import sample.application.api.shared.controller.AbstractReactiveController;
+
+@RestController
+@RequestMapping("/reactive/district")
+public class DistrictReactiveController extends AbstractReactiveController<DistrictView, DistrictReactiveRepository> {
+    public DistrictReactiveController(final DistrictReactiveRepository repository) {
+        super(DistrictView.class, repository);
+    }
+
+    @Override
+    protected Flux<DistrictView> findByPattern(final String pattern) {
+        return getRepository().findByNameLikeOrderByIdAsc(pattern);
+    }
+}
@@ -0,0 +1,12 @@
+package sample.application.api.feature.district;
+
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import sample.application.api.shared.ReactiveReadRepository;
+
+@Repository
+public interface DistrictReactiveRepository extends ReactiveReadRepository<DistrictView> {
+    /// {@return a [Flux] emitting the districts whose name matches a given pattern, sorted by ID}
+    /// @param name a pattern such as `São%`
+    Flux<DistrictView> findByNameLikeOrderByIdAsc(String name);
+}
@@ -1,11 +1,18 @@
 package sample.application.api.feature.district;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
-import sample.application.api.shared.EntityRepository;
+import sample.application.api.shared.SearchableRepository;
 
 import java.util.List;
 
 @Repository
-public interface DistrictRepository extends EntityRepository<District> {
+public interface DistrictRepository extends SearchableRepository<District> {
+    /// {@return the districts whose name matches a given pattern}
+    /// The results are kept in the query cache, which is invalidated when any district is changed.
+    /// @param name a pattern such as `São%`
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<District> findByNameLike(String name);
 }
@@ -1,19 +1,21 @@
 package sample.application.api.feature.district;
 
 import org.springframework.stereotype.Service;
-import sample.application.api.shared.service.AbstractCrudService;
+import sample.application.api.shared.service.AbstractSearchableService;
+import sample.application.api.shared.service.SearchIndexService;
+import sample.application.api.shared.service.WriteMode;
 
 @Service
-public class DistrictService extends AbstractCrudService<District, DistrictRepository> {
-    public DistrictService(final DistrictRepository repository) {
-        super(repository);
+public class DistrictService extends AbstractSearchableService<District, DistrictRepository> {
+    public DistrictService(final DistrictRepository repository, final SearchIndexService searchIndex) {
+        super(repository, searchIndex);
     }
 
     @Override
-    public District save(final District district) {
+    public District save(final District district, final WriteMode mode) {
         if(district.name.equalsIgnoreCase(district.abbreviation))
             throw new IllegalStateException("The country district description cannot be equal to its abbreviation");
 
-        return super.save(district);
+        return super.save(district, mode);
     }
 }
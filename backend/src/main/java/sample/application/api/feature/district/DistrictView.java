@@ -0,0 +1,9 @@
+package sample.application.api.feature.district;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/// A read-only view of a [District], read through R2DBC by the [DistrictReactiveController].
+@Table("district")
+public record DistrictView(@Id long id, String name, String abbreviation) {
+}
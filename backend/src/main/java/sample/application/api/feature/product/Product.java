@@ -2,19 +2,30 @@ package sample.application.api.feature.product;
 
 import io.github.manoelcampos.dtogen.DTO;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import sample.application.api.feature.purchase.PurchaseItem;
 import sample.application.api.shared.model.AbstractBaseModel;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.model.FullTextIndexed;
+import sample.application.api.shared.service.FullTextIndexListener;
+
+import java.util.Collections;
+import java.util.Map;
 
 /// A product that can be sold in the store.
 /// 
 /// See [AbstractBaseModel] for the reason why all atributes are public.
 /// @author Manoel Campos
 @Entity @DTO
-public class Product extends AbstractBaseModel {
+@Table(indexes = @Index(name = "ix_product_search_text", columnList = "search_text"))
+@EntityListeners(FullTextIndexListener.class)
+public class Product extends AbstractSearchableModel implements FullTextIndexed {
     @NotNull @NotBlank
     public String description;
 
@@ -44,4 +55,14 @@ public class Product extends AbstractBaseModel {
     public boolean isInventoryEnough(final PurchaseItem item){
         return this.amount < item.quant;
     }
+
+    @Override
+    public String searchableText() {
+        return description;
+    }
+
+    @Override
+    public Map<String, String> fullTextFields() {
+        return Collections.singletonMap("description", description);
+    }
 }
@@ -1,13 +1,75 @@
 package sample.application.api.feature.product;
 
+import jakarta.transaction.Transactional;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import sample.application.api.shared.controller.AbstractController;
+import sample.application.api.shared.controller.AbstractSearchableController;
+import sample.application.api.shared.service.AutocompleteIndex;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/product")
-public class ProductController extends AbstractController<Product, ProductDTO, ProductRepository, ProductService> {
+public class ProductController extends AbstractSearchableController<Product, ProductDTO, ProductRepository, ProductService> {
     public ProductController(final ProductService service) {
         super(ProductDTO.class, service);
     }
+
+    /// Suggests products whose description starts with a given text, ignoring case and accents,
+    /// such as `GET /product/autocomplete?q=note&limit=10`.
+    /// It's meant to be called as the user types, so the database is not accessed.
+    /// @param q the beginning of the product description
+    /// @param limit maximum number of products to return
+    /// @return the ID and description of the products found
+    /// @see ProductService#autocomplete(String, int)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteIndex.Suggestion>> autocomplete(
+        @RequestParam final String q, @RequestParam(defaultValue = "10") final int limit)
+    {
+        return ResponseEntity.ok(getService().autocomplete(q, limit));
+    }
+
+    /// Splits the stock of a product into a given number of stripes (striped inventory),
+    /// such as `PUT /product/1/stock-stripes?count=8`.
+    /// It should be used for products with a high number of concurrent purchases.
+    /// @param id ID of the product
+    /// @param count number of stripes, or 1 to stop using striped inventory
+    /// @see StripedStockService
+    @PutMapping("{id}/stock-stripes")
+    @Transactional
+    public ResponseEntity<Void> stripeStock(@PathVariable final long id, @RequestParam @Min(1) final int count) {
+        if(getService().findById(id).isEmpty())
+            throw newNotFoundException(id);
+
+        getService().stripeStock(id, count);
+        return ResponseEntity.noContent().build();
+    }
+
+    /// Finds products by words (or the beginning of words) in their description, ranked by relevance,
+    /// such as `GET /product/fulltext?q=gamer+notebook&page=0&size=20`.
+    /// @param q the words to search for
+    /// @param pageable the page requested by the client (its sort order is ignored)
+    /// @return a [PagedModel] containing the products found in the page and the total number of products and pages
+    /// @see ProductService#fullTextSearch(String, Pageable)
+    @GetMapping("/fulltext")
+    public ResponseEntity<PagedModel<Product>> fullTextSearch(@RequestParam final String q, final Pageable pageable) {
+        return pageResponse(getService().fullTextSearch(q, pageable));
+    }
+
+    /// Rebuilds the full-text index of all products, such as `POST /product/fulltext/rebuild`.
+    /// It's required when the database is changed without using the application.
+    /// @return the number of products indexed
+    @PostMapping("/fulltext/rebuild")
+    public ResponseEntity<Long> rebuildFullTextIndex() {
+        return ResponseEntity.ok(getService().rebuildFullTextIndex());
+    }
 }
@@ -0,0 +1,19 @@
+package sample.application.api.feature.product;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import sample.application.api.shared.controller.AbstractReactiveController;
+
+@RestController
+@RequestMapping("/reactive/product")
+public class ProductReactiveController extends AbstractReactiveController<ProductView, ProductReactiveRepository> {
+    public ProductReactiveController(final ProductReactiveRepository repository) {
+        super(ProductView.class, repository);
+    }
+
+    @Override
+    protected Flux<ProductView> findByPattern(final String pattern) {
+        return getRepository().findByDescriptionLikeOrderByIdAsc(pattern);
+    }
+}
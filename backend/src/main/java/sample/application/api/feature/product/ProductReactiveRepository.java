@@ -0,0 +1,12 @@
+package sample.application.api.feature.product;
+
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import sample.application.api.shared.ReactiveReadRepository;
+
+@Repository
+public interface ProductReactiveRepository extends ReactiveReadRepository<ProductView> {
+    /// {@return a [Flux] emitting the products whose description matches a given pattern, sorted by ID}
+    /// @param description a pattern such as `Note%`
+    Flux<ProductView> findByDescriptionLikeOrderByIdAsc(String description);
+}
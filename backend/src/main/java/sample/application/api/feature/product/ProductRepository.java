@@ -1,11 +1,53 @@
 package sample.application.api.feature.product;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import sample.application.api.shared.EntityRepository;
+import sample.application.api.shared.SearchableRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends EntityRepository<Product> {
+public interface ProductRepository extends SearchableRepository<Product> {
     List<Product> findByDescriptionLike(String description);
+
+    /// {@return the stock of a set of products, selecting only the columns required to check it}
+    /// Products that don't exist are not included in the returned list.
+    /// @param ids IDs of the products to get the stock
+    List<ProductStock> findStockByIdIn(Collection<Long> ids);
+
+    /// Atomically decreases the stock of a product, only if there are enough units in stock.
+    /// The check and the update are performed by the database in a single statement,
+    /// which locks the product row until the end of the current transaction.
+    /// This way, concurrent purchases of the same product cannot make the stock negative.
+    /// The [Product#version] is also incremented, since bulk updates don't do it automatically.
+    /// @param id ID of the product
+    /// @param quant number of units to remove from the stock
+    /// @return 1 if the stock was decreased; 0 if the product doesn't exist or there aren't enough units in stock
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.amount = p.amount - :quant, p.version = p.version + 1 where p.id = :id and p.amount >= :quant")
+    int decreaseStock(@Param("id") long id, @Param("quant") int quant);
+
+    /// {@return a product, locked until the end of the current transaction}
+    /// @param id ID of the product
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findForUpdate(@Param("id") long id);
+
+    /// Updates the [Product#amount] of all products that use striped inventory
+    /// with the total number of units in their [ProductStockStripe]s.
+    /// Only products whose amount is different from such a total are updated,
+    /// so that the [Product#version] (and so the ETag) of the other ones doesn't change.
+    /// @return the number of updated products
+    @Modifying
+    @Query("update Product p set p.amount = (select coalesce(sum(s.amount), 0) from ProductStockStripe s where s.product = p), " +
+           "p.version = p.version + 1 " +
+           "where exists (select s.id from ProductStockStripe s where s.product = p) " +
+           "and p.amount <> (select coalesce(sum(s.amount), 0) from ProductStockStripe s where s.product = p)")
+    int reconcileStripedStock();
 }
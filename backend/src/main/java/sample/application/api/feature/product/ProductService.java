@@ -1,16 +1,73 @@
 package sample.application.api.feature.product;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import sample.application.api.shared.service.AbstractCrudService;
+import org.springframework.transaction.annotation.Transactional;
+import sample.application.api.shared.service.AbstractSearchableService;
+import sample.application.api.shared.service.Autocomplete;
+import sample.application.api.shared.service.FullTextIndexService;
+import sample.application.api.shared.service.SearchIndexService;
+import sample.application.api.shared.service.WriteMode;
 
+import java.util.List;
+
+/// Product descriptions are kept in memory to be suggested as the user types (see [ProductController#autocomplete(String, int)]).
 @Service
-public class ProductService extends AbstractCrudService<Product, ProductRepository> {
-    public ProductService(final ProductRepository repository) {
-        super(repository);
+@Autocomplete
+public class ProductService extends AbstractSearchableService<Product, ProductRepository> {
+    private final StripedStockService stripedStockService;
+    private final FullTextIndexService fullTextIndex;
+
+    public ProductService(
+        final ProductRepository repository, final SearchIndexService searchIndex,
+        final StripedStockService stripedStockService, final FullTextIndexService fullTextIndex)
+    {
+        super(repository, searchIndex);
+        this.stripedStockService = stripedStockService;
+        this.fullTextIndex = fullTextIndex;
+    }
+
+    /// Finds products by words (or the beginning of words) in their description, ranked by relevance.
+    /// @param text the words to search for
+    /// @param pageable the page to get
+    /// @return a page of the products found
+    /// @see Product#fullTextFields()
+    public Page<Product> fullTextSearch(final String text, final Pageable pageable) {
+        return fullTextIndex.search(Product.class, text, pageable);
     }
 
+    /// Rebuilds the full-text index of all products.
+    /// @return the number of products indexed
+    /// @see FullTextIndexService#rebuild(Class)
+    public long rebuildFullTextIndex() {
+        return fullTextIndex.rebuild(Product.class);
+    }
+
+    /// {@inheritDoc}
+    /// If the product uses striped inventory, only the change made to its amount is applied
+    /// to the units in its stripes, which are then split again.
+    /// @see StripedStockService#collapseForUpdate(Product)
     @Override
+    @Transactional
+    public Product save(final Product product, final WriteMode mode) {
+        final int stripes = product.isEditing() ? stripedStockService.collapseForUpdate(product) : 0;
+        final var saved = super.save(product, mode);
+        if(stripes > 1)
+            stripedStockService.distribute(saved, stripes);
+
+        return saved;
+    }
+
+    /// {@inheritDoc}
+    /// If the product uses striped inventory, the units in its stripes are moved back to the product
+    /// (removing the stripes), so that the total stock is checked.
+    @Override
+    @Transactional
     public boolean deleteById(final long id) {
+        if(!stripedStockService.findStripeCounts(List.of(id)).isEmpty())
+            stripedStockService.collapse(id);
+
         getRepository().findById(id).ifPresent(prod -> {
             if(prod.hasInventory())
                 throw new IllegalStateException("Product %s cannot be deleted because it is still in stock.".formatted(prod.description));
@@ -18,4 +75,12 @@ public class ProductService extends AbstractCrudService<Product, ProductReposito
 
         return super.deleteById(id);
     }
+
+    /// Changes the number of stripes the stock of a product is split into.
+    /// @param id ID of the product
+    /// @param stripes number of stripes, or 1 to stop using striped inventory
+    /// @see StripedStockService#stripe(long, int)
+    public void stripeStock(final long id, final int stripes) {
+        stripedStockService.stripe(id, stripes);
+    }
 }
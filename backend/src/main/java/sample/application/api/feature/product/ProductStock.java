@@ -0,0 +1,14 @@
+package sample.application.api.feature.product;
+
+/// A projection of a [Product] containing only the fields required to check its stock.
+/// @param id product ID
+/// @param description product description
+/// @param amount number of product units in stock
+/// @author Manoel Campos
+public record ProductStock(long id, String description, int amount) {
+    /// {@return true if there are enough units in stock to sell a given quantity, false otherwise}
+    /// @param quant quantity to be sold
+    public boolean isInventoryEnough(final int quant) {
+        return amount >= quant;
+    }
+}
@@ -0,0 +1,41 @@
+package sample.application.api.feature.product;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import sample.application.api.config.ConstraintKeys;
+import sample.application.api.shared.model.AbstractBaseModel;
+
+/// A part (stripe) of the stock of a [Product] that uses striped inventory.
+/// The stock of a product that is sold by many concurrent purchases (such as in a flash sale)
+/// can be split into N stripes, so that each purchase locks only one stripe row,
+/// instead of all purchases waiting for the lock of the same product row.
+///
+/// See [AbstractBaseModel] for the reason why all atributes are public.
+/// @author Manoel Campos
+/// @see StripedStockService
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = ConstraintKeys.UC_PRODUCT_STOCK_STRIPE, columnNames = {"product_id", "stripe"})
+})
+public class ProductStockStripe extends AbstractBaseModel {
+    @NotNull @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(foreignKey = @ForeignKey(name = ConstraintKeys.FK_PRODUCT_STOCK_STRIPE__PRODUCT))
+    public Product product;
+
+    /// Index of the stripe, from 0 to the number of stripes of the product minus 1.
+    @Min(0)
+    public int stripe;
+
+    /// Number of product units in this stripe.
+    @Min(0)
+    public int amount;
+
+    public ProductStockStripe() {}
+
+    public ProductStockStripe(final Product product, final int stripe, final int amount) {
+        this.product = product;
+        this.stripe = stripe;
+        this.amount = amount;
+    }
+}
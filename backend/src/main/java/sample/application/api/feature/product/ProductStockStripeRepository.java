@@ -0,0 +1,65 @@
+package sample.application.api.feature.product;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sample.application.api.shared.EntityRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductStockStripeRepository extends EntityRepository<ProductStockStripe> {
+    /// Value for the lock timeout hint that makes a locking query skip rows locked by other transactions.
+    /// @see LockOptions#SKIP_LOCKED
+    String SKIP_LOCKED = "" + LockOptions.SKIP_LOCKED;
+
+    /// {@return the number of stripes of the products that use striped inventory}
+    /// Products that don't use striped inventory are not included in the returned list.
+    /// @param productIds IDs of the products to get the number of stripes
+    @Query("select new sample.application.api.feature.product.StripeCount(s.product.id, count(s)) " +
+           "from ProductStockStripe s where s.product.id in :productIds group by s.product.id")
+    List<StripeCount> countStripes(@Param("productIds") Collection<Long> productIds);
+
+    /// Finds and locks a stripe of a product having at least a given number of units,
+    /// skipping stripes currently locked by other transactions instead of waiting for them.
+    /// Stripes are checked from a given index up to the last one, and then from the first one (wrapping around).
+    /// This way, concurrent purchases of the same product starting from different indexes
+    /// decrease different stripes, instead of all of them trying the first stripes.
+    /// @param productId ID of the product
+    /// @param start index of the first stripe to check
+    /// @param amount minimum number of units in the stripe
+    /// @return an [Optional] containing the stripe, locked until the end of the current transaction;
+    ///         or an empty [Optional] if all stripes having enough units are locked or no stripe has enough units
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("select s from ProductStockStripe s where s.product.id = :productId and s.amount >= :amount " +
+           "order by case when s.stripe >= :start then 0 else 1 end, s.stripe limit 1")
+    Optional<ProductStockStripe> findAvailable(@Param("productId") long productId, @Param("start") int start, @Param("amount") int amount);
+
+    /// {@return the total units in all stripes of a product, without locking them}
+    /// @param productId ID of the product
+    @Query("select coalesce(sum(s.amount), 0) from ProductStockStripe s where s.product.id = :productId")
+    int sumAmount(@Param("productId") long productId);
+
+    /// {@return all stripes of a product, sorted by their index and locked until the end of the current transaction}
+    /// @param productId ID of the product
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStockStripe s where s.product.id = :productId order by s.stripe")
+    List<ProductStockStripe> findForUpdate(@Param("productId") long productId);
+
+    /// Deletes all stripes of a product.
+    /// @param productId ID of the product
+    /// @return the number of deleted stripes
+    @Modifying
+    @Query("delete from ProductStockStripe s where s.product.id = :productId")
+    int deleteByProductId(@Param("productId") long productId);
+}
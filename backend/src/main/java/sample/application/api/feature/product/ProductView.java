@@ -0,0 +1,10 @@
+package sample.application.api.feature.product;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/// A read-only view of a [Product], read through R2DBC by the [ProductReactiveController].
+/// For products using striped inventory, the [#amount] is only updated periodically (see [StripedStockService]).
+@Table("product")
+public record ProductView(@Id long id, String description, double price, int amount) {
+}
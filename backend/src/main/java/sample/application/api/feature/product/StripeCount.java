@@ -0,0 +1,8 @@
+package sample.application.api.feature.product;
+
+/// The number of stock stripes of a [Product].
+/// @param productId ID of the product
+/// @param stripes number of [ProductStockStripe]s of the product
+/// @author Manoel Campos
+public record StripeCount(long productId, long stripes) {
+}
@@ -0,0 +1,176 @@
+package sample.application.api.feature.product;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/// Manages the striped inventory of [Product]s.
+///
+/// When thousands of purchases of the same product are made per second (such as in a flash sale),
+/// every purchase transaction waits for the lock of the same product row to decrease its stock.
+/// For such products, the stock can be split into N [ProductStockStripe] rows.
+/// Each purchase decreases the stock of a randomly chosen stripe (falling back to the other ones
+/// when the chosen stripe doesn't have enough units), so that concurrent purchases
+/// are spread among N row locks instead of a single one.
+///
+/// For a product using striped inventory, the stock is given by the sum of its stripes
+/// and [Product#amount] becomes a derived total, updated periodically by [#reconcile()].
+/// Products not using striped inventory (the default) have no stripes and their stock is kept in [Product#amount].
+/// @author Manoel Campos
+@Service
+public class StripedStockService {
+    private static final Logger logger = LoggerFactory.getLogger(StripedStockService.class);
+
+    private final ProductRepository productRepository;
+    private final ProductStockStripeRepository stripeRepository;
+
+    public StripedStockService(final ProductRepository productRepository, final ProductStockStripeRepository stripeRepository) {
+        this.productRepository = productRepository;
+        this.stripeRepository = stripeRepository;
+    }
+
+    /// {@return a map where each key is the ID of a product that uses striped inventory
+    /// and the value is its number of stripes}
+    /// Products that don't use striped inventory are not included in the map.
+    /// @param productIds IDs of the products to check
+    public Map<Long, Integer> findStripeCounts(final Collection<Long> productIds) {
+        return stripeRepository.countStripes(productIds)
+                               .stream()
+                               .collect(Collectors.toMap(StripeCount::productId, count -> (int) count.stripes()));
+    }
+
+    /// Changes the number of stripes the stock of a product is split into.
+    /// @param productId ID of the product
+    /// @param stripes number of stripes to split the stock into, or 1 to stop using striped inventory
+    ///                (keeping the whole stock in [Product#amount])
+    @Transactional
+    public void stripe(final long productId, final int stripes) {
+        if(stripes < 1)
+            throw new IllegalArgumentException("The number of stock stripes must be at least 1");
+
+        final var product = collapse(productId);
+        if(stripes > 1)
+            distribute(product, stripes);
+    }
+
+    /// Stops using striped inventory for a product (if it uses it),
+    /// moving the units of all its stripes back to [Product#amount].
+    /// @param productId ID of the product
+    /// @return the product with the updated amount
+    @Transactional
+    public Product collapse(final long productId) {
+        final var product = productRepository.findForUpdate(productId).orElseThrow(() -> new NoSuchElementException("Product not found"));
+        final var stripes = stripeRepository.findForUpdate(productId);
+        if(!stripes.isEmpty()) {
+            product.amount = stripes.stream().mapToInt(stripe -> stripe.amount).sum();
+            stripeRepository.deleteByProductId(productId);
+        }
+
+        return product;
+    }
+
+    /// Collapses the stripes of a product being edited (if it uses striped inventory),
+    /// applying to the units in such stripes only the change the client made to the [Product#amount].
+    /// The amount sent by the client is based on the total of the last [#reconcile()],
+    /// while the stripes may have been decreased by purchases since then.
+    /// This way, units sold since the last reconciliation aren't put back in stock
+    /// and units added since then aren't lost.
+    ///
+    /// The product and its stripes stay locked until the end of the current transaction,
+    /// so that purchases and other stock changes wait for the product to be saved.
+    /// After it's saved, the stock must be split again by [#distribute(Product, int)].
+    /// @param product the product being edited, whose amount is updated to the new total stock
+    /// @return the number of stripes the product had, or 0 if it doesn't use striped inventory
+    @Transactional
+    public int collapseForUpdate(final Product product) {
+        final var current = productRepository.findForUpdate(product.id).orElseThrow(() -> new NoSuchElementException("Product not found"));
+        final var stripes = stripeRepository.findForUpdate(product.id);
+        if(stripes.isEmpty())
+            return 0;
+
+        final int units = stripes.stream().mapToInt(stripe -> stripe.amount).sum();
+        product.amount = units + product.amount - current.amount;
+        if(product.amount < 0)
+            throw new IllegalStateException("Product %s doesn't have enough units in stock to remove.".formatted(current.description));
+
+        stripeRepository.deleteByProductId(product.id);
+        return stripes.size();
+    }
+
+    /// Splits the current [Product#amount] of a product into a given number of stripes.
+    /// The product must not have stripes.
+    /// @param product the product to split the stock
+    /// @param stripes number of stripes to split the stock into
+    @Transactional
+    public void distribute(final Product product, final int stripes) {
+        final int unitsPerStripe = product.amount / stripes;
+        final int remainder = product.amount % stripes;
+        final var list = new ArrayList<ProductStockStripe>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            list.add(new ProductStockStripe(product, i, unitsPerStripe + (i < remainder ? 1 : 0)));
+        }
+
+        stripeRepository.saveAll(list);
+    }
+
+    /// Decreases the stock of a product that uses striped inventory.
+    /// A stripe having enough units and not locked by another purchase is locked and decreased,
+    /// so that concurrent purchases don't wait for each other.
+    /// Stripes are checked from a random one, so that concurrent purchases are spread among all stripes.
+    /// If there is no such stripe, the units are taken from multiple stripes, locking all of them.
+    /// @param productId ID of the product
+    /// @param stripes number of stripes of the product (see [#findStripeCounts(Collection)])
+    /// @param quant number of units to remove from the stock
+    /// @return true if the stock was decreased, false if there aren't enough units in stock
+    @Transactional
+    public boolean decreaseStock(final long productId, final int stripes, final int quant) {
+        final int start = ThreadLocalRandom.current().nextInt(stripes);
+        final var stripe = stripeRepository.findAvailable(productId, start, quant);
+        if(stripe.isPresent()) {
+            stripe.get().amount -= quant;
+            return true;
+        }
+
+        return decreaseStockFromAllStripes(productId, quant);
+    }
+
+    private boolean decreaseStockFromAllStripes(final long productId, final int quant) {
+        // Since units are only added to stripes when the product is locked, an unlocked sum below
+        // the requested quantity means the product is out of stock, so that no stripe needs to be locked.
+        if(stripeRepository.sumAmount(productId) < quant)
+            return false;
+
+        final var stripes = stripeRepository.findForUpdate(productId);
+        if(stripes.stream().mapToInt(stripe -> stripe.amount).sum() < quant)
+            return false;
+
+        int remaining = quant;
+        for (final var stripe : stripes) {
+            final int taken = Math.min(stripe.amount, remaining);
+            stripe.amount -= taken;
+            remaining -= taken;
+        }
+
+        return true;
+    }
+
+    /// Periodically updates the [Product#amount] of products using striped inventory
+    /// with the total units in their stripes.
+    /// The interval is defined by the `stock.reconciliation-interval` property (in milliseconds).
+    @Scheduled(fixedDelayString = "${stock.reconciliation-interval:5000}")
+    @Transactional
+    public void reconcile() {
+        final int count = productRepository.reconcileStripedStock();
+        if(count > 0)
+            logger.debug("Stock of {} product(s) using striped inventory reconciled", count);
+    }
+}
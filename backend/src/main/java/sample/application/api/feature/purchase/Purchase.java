@@ -12,6 +12,7 @@ import sample.application.api.shared.model.AbstractBaseModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.Objects.requireNonNullElse;
@@ -57,6 +58,13 @@ public class Purchase extends AbstractBaseModel {
         this.itens = itens;
     }
 
+    /// {@inheritDoc}
+    /// The items are included only if they were loaded.
+    @Override
+    public List<?> relatedEntities() {
+        return Arrays.asList(customer, itens);
+    }
+
     public void setItens(final List<PurchaseItem> itens) {
         this.itens = requireNonNullElse(itens, new ArrayList<>());
         this.itens.forEach(item -> item.purchase = this);
@@ -9,6 +9,9 @@ import sample.application.api.config.ConstraintKeys;
 import sample.application.api.feature.product.Product;
 import sample.application.api.shared.model.AbstractBaseModel;
 
+import java.util.Arrays;
+import java.util.List;
+
 /// See [AbstractBaseModel] for the reason why all atributes are public.
 /// @author Manoel Campos
 @Entity @DTO
@@ -52,4 +55,9 @@ public class PurchaseItem extends AbstractBaseModel {
         this.product = new Product(produtoId);
         this.quant = quant;
     }
+
+    @Override
+    public List<?> relatedEntities() {
+        return Arrays.asList(product);
+    }
 }
@@ -1,8 +1,55 @@
 package sample.application.api.feature.purchase;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sample.application.api.shared.EntityRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/// Repository for [Purchase]s, defining fetch plans for reading purchases with their associations,
+/// avoiding the N+1 query problem.
+/// Without them, each purchase fires an additional query for its customer (and its city/district)
+/// and another one for its items (and each item product).
+///
+/// Fetching [Purchase#itens] together with a page of purchases would make Hibernate
+/// paginate in memory (since the join repeats a purchase for each item).
+/// Therefore, pages of purchases are loaded in two steps: the page itself,
+/// joined with the customer chain (a to-one path that doesn't duplicate rows)
+/// and then the items of all purchases in the page, using [#fetchItens(Collection)].
+/// @author Manoel Campos
 @Repository
 public interface PurchaseRepository extends EntityRepository<Purchase> {
+    /// Path of the to-one associations that are fetched together with purchases.
+    String CUSTOMER_PATH = "customer.city.district";
+
+    @Override
+    @EntityGraph(attributePaths = {CUSTOMER_PATH, "itens.product"})
+    Optional<Purchase> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER_PATH)
+    Page<Purchase> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER_PATH)
+    Window<Purchase> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    /// Loads the items (and their products) of a given list of purchases in a single query.
+    /// Since the purchases are already managed by the current persistence context,
+    /// their [Purchase#itens] collections are initialized with the fetched items.
+    /// This must be called inside the same transaction used to load the purchases.
+    /// @param purchases the purchases to load the items
+    /// @return the same purchases, with the items loaded
+    @Query("select distinct p from Purchase p left join fetch p.itens i left join fetch i.product where p in :purchases")
+    List<Purchase> fetchItens(@Param("purchases") Collection<Purchase> purchases);
 }
@@ -1,53 +1,154 @@
 package sample.application.api.feature.purchase;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sample.application.api.feature.product.Product;
 import sample.application.api.feature.product.ProductRepository;
+import sample.application.api.feature.product.StripedStockService;
 import sample.application.api.shared.service.AbstractCrudService;
+import sample.application.api.shared.service.WriteMode;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
 
 import static java.util.Objects.requireNonNullElse;
 
 @Service
 public class PurchaseService extends AbstractCrudService<Purchase, PurchaseRepository> {
     private final ProductRepository productRepository;
+    private final StripedStockService stripedStockService;
 
-    public PurchaseService(final PurchaseRepository repository, final ProductRepository productRepository) {
+    public PurchaseService(
+        final PurchaseRepository repository, final ProductRepository productRepository,
+        final StripedStockService stripedStockService)
+    {
         super(repository);
         this.productRepository = productRepository;
+        this.stripedStockService = stripedStockService;
     }
 
-    /**
-     * The method does not take into account that concurrent customers may be
-     * buying the same product at the same time, and therefore,
-     * the implementation may end up allowing the stock to become negative
-     * in these cases.
-     */
+    /// {@inheritDoc}
+    /// The purchases are loaded with their customers, items and products in a fixed number of queries,
+    /// no matter the page size.
+    /// @see PurchaseRepository
     @Override
+    @Transactional(readOnly = true)
+    public Page<Purchase> findAll(final Pageable pageable) {
+        final var page = super.findAll(pageable);
+        fetchItens(page.getContent());
+        return page;
+    }
+
+    /// {@inheritDoc}
+    /// The purchases are loaded with their customers, items and products in a fixed number of queries,
+    /// no matter the limit.
+    /// @see PurchaseRepository
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Purchase> scroll(final ScrollPosition position, final int limit) {
+        final var window = super.scroll(position, limit);
+        fetchItens(window.getContent());
+        return window;
+    }
+
+    private void fetchItens(final List<Purchase> purchases) {
+        if(!purchases.isEmpty())
+            getRepository().fetchItens(purchases);
+    }
+
+    /// Saves a purchase and, if it's a new one, removes the units sold from the stock of each product.
+    /// The stock is decreased by conditional atomic updates, inside the same transaction that saves the purchase.
+    /// This way, if concurrent customers are buying the same product at the same time,
+    /// the stock never becomes negative: the purchase that doesn't find enough units is rolled back.
+    ///
+    /// Purchases are saved using the [WriteMode#DEFERRED] mode,
+    /// so that the purchase and all its items are inserted in JDBC batches when the transaction is committed.
+    /// @see #reservarEstoque(Map, Map)
+    @Override
+    @Transactional
     public Purchase save(final Purchase purchase) {
-        verificarEstoque(purchase);
-        return super.save(purchase);
+        return save(purchase, WriteMode.DEFERRED);
     }
 
-    private void verificarEstoque(final Purchase purchase) {
-        if(purchase.isEditing())
-            return;
+    /// {@inheritDoc}
+    /// If it's a new purchase, the units sold are removed from the stock of each product.
+    /// @see #save(Purchase)
+    @Override
+    @Transactional
+    public Purchase save(final Purchase purchase, final WriteMode mode) {
+        if(purchase.isInserting()) {
+            final var quantByProductId = sumQuantByProduct(purchase);
+            final var stripeCounts = stripedStockService.findStripeCounts(quantByProductId.keySet());
+            verificarEstoque(quantByProductId, stripeCounts);
+            reservarEstoque(quantByProductId, stripeCounts);
+        }
 
-        for (PurchaseItem item : purchase.itens) {
-            final var produto = item.product;
+        return super.save(purchase, mode);
+    }
 
-            final Long prodId = requireNonNullElse(produto, new Product()).id;
+    /// Sums up the quantities of the items in a purchase by product,
+    /// since multiple items may be for the same product.
+    /// @return a map where each key is a product ID and the value is the total quantity being sold
+    private static Map<Long, Integer> sumQuantByProduct(final Purchase purchase) {
+        final Map<Long, Integer> quantByProductId = new LinkedHashMap<>();
+        for (PurchaseItem item : purchase.itens) {
+            final Long prodId = requireNonNullElse(item.product, new Product()).id;
             if (prodId == null) {
                 throw new IllegalStateException("Product not specified");
             }
 
-            final var prod =
-                    productRepository
-                            .findById(prodId)
-                            .orElseThrow(() -> new NoSuchElementException("Product not found"));
-            if(prod.isInventoryEnough(item)){
-                throw new IllegalStateException("Product %s is out of stock.".formatted(prod.description));
+            quantByProductId.merge(prodId, item.quant, Integer::sum);
+        }
+
+        return quantByProductId;
+    }
+
+    /// Checks if there is enough stock for all products in a new purchase.
+    /// The stock of all products is fetched in a single query
+    /// and the total quantity of each product is checked against its stock.
+    /// Since the stock may change after this check, it's just used to fail fast
+    /// (before locking any product) and the stock is actually reserved by [#reservarEstoque(Map, Map)].
+    /// For products using striped inventory, [Product#amount] is only updated periodically,
+    /// so only their existence is checked here.
+    /// @param quantByProductId a map where each key is a product ID and the value is the total quantity being sold
+    /// @param stripeCounts a map with the number of stripes of the products using striped inventory
+    private void verificarEstoque(final Map<Long, Integer> quantByProductId, final Map<Long, Integer> stripeCounts) {
+        final var stockList = productRepository.findStockByIdIn(quantByProductId.keySet());
+        if(stockList.size() < quantByProductId.size()){
+            throw new NoSuchElementException("Product not found");
+        }
+
+        for (final var stock : stockList) {
+            if(!stripeCounts.containsKey(stock.id()) && !stock.isInventoryEnough(quantByProductId.get(stock.id()))){
+                throw new IllegalStateException("Product %s is out of stock.".formatted(stock.description()));
+            }
+        }
+    }
+
+    /// Decreases the stock of the products in a purchase.
+    /// Products are updated in ascending order of ID, so that concurrent purchases
+    /// lock the product rows in the same order, avoiding deadlocks.
+    /// @param quantByProductId a map where each key is a product ID and the value is the total quantity being sold
+    /// @param stripeCounts a map with the number of stripes of the products using striped inventory
+    /// @throws IllegalStateException if some product doesn't have enough units anymore,
+    ///         which rolls back the transaction (including the stock already decreased for other products)
+    /// @see StripedStockService
+    private void reservarEstoque(final Map<Long, Integer> quantByProductId, final Map<Long, Integer> stripeCounts) {
+        for (final var entry : new TreeMap<>(quantByProductId).entrySet()) {
+            final long productId = entry.getKey();
+            final int quant = entry.getValue();
+            final boolean reserved = stripeCounts.containsKey(productId) ?
+                                        stripedStockService.decreaseStock(productId, stripeCounts.get(productId), quant) :
+                                        productRepository.decreaseStock(productId, quant) == 1;
+            if(!reserved){
+                throw new IllegalStateException("Product %d is out of stock.".formatted(productId));
             }
         }
     }
@@ -1,9 +1,23 @@
 package sample.application.api.shared;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 import sample.application.api.shared.model.BaseModel;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
 /// Provides a contract for creating other interfaces annotated with
 /// [org.springframework.stereotype.Repository]
 /// and that handle entities of type [BaseModel].
@@ -12,4 +26,43 @@ import sample.application.api.shared.model.BaseModel;
 /// @author Manoel Campos
 @NoRepositoryBean
 public interface EntityRepository<T extends BaseModel> extends JpaRepository<T, Long> {
+    /// Number of rows the JDBC driver fetches from the database at a time when streaming entities.
+    /// @see #streamAllBy()
+    int STREAM_FETCH_SIZE = 500;
+
+    /// {@return a [Stream] that reads all entities, one row at a time, through a forward-only database cursor}
+    /// Entities are loaded as read-only (not checked for changes on flush)
+    /// and the driver fetches [#STREAM_FETCH_SIZE] rows at a time.
+    /// This way, the whole table is never loaded into memory.
+    ///
+    /// The stream must be consumed inside a transaction and closed after use
+    /// (such as inside a try-with-resources).
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<T> streamAllBy();
+
+    /// {@return a window of entities, starting right after a given scroll position}
+    /// When a [org.springframework.data.domain.KeysetScrollPosition] is given,
+    /// the query filters the records by the sort keys (such as `where id > :lastId`),
+    /// instead of skipping records with an offset.
+    /// This way, the cost of getting a window doesn't depend on how deep it is.
+    /// @param position the position to start the window from
+    /// @param limit maximum number of entities in the window
+    /// @param sort the sort order, which must include a unique key (such as the ID)
+    Window<T> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    /// {@return the IDs (among the given ones) of the entities that exist in the database}
+    /// It checks the existence of multiple entities in a single query, without loading them.
+    /// @param ids IDs of the entities to check
+    @Query("select e.id from #{#entityName} e where e.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /// {@return the current version of an entity, without loading it, or an empty Optional if it doesn't exist}
+    /// @param id ID of the entity
+    /// @see sample.application.api.shared.model.AbstractBaseModel#version
+    @Query("select e.version from #{#entityName} e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") long id);
 }
@@ -0,0 +1,25 @@
+package sample.application.api.shared;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/// Provides a contract for creating read-only repositories that access the database
+/// in a non-blocking way, through R2DBC.
+/// Each repository reads a view (a record annotated with [org.springframework.data.relational.core.mapping.Table])
+/// mapped to the same table as a JPA entity.
+/// The implementation of such interfaces is automatically created by Spring Data R2DBC.
+/// @param <V> type of the view
+/// @author Manoel Campos
+/// @see sample.application.api.shared.controller.AbstractReactiveController
+@NoRepositoryBean
+public interface ReactiveReadRepository<V> extends Repository<V, Long> {
+    /// {@return a [Mono] that emits the view with a given ID, or completes empty if there is no such a row}
+    /// @param id the ID of the row
+    Mono<V> findById(Long id);
+
+    /// {@return a [Flux] that emits all rows sorted by ID}
+    /// Rows are read from the database as they are requested by the subscriber.
+    Flux<V> findAllByOrderByIdAsc();
+}
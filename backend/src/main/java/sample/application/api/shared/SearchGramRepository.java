@@ -0,0 +1,18 @@
+package sample.application.api.shared;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sample.application.api.shared.model.SearchGram;
+
+@Repository
+public interface SearchGramRepository extends EntityRepository<SearchGram> {
+    /// Deletes all grams of an entity.
+    /// @param entityType name of the entity class
+    /// @param entityId ID of the entity
+    /// @return the number of deleted grams
+    @Modifying
+    @Query("delete from SearchGram g where g.entityType = :entityType and g.entityId = :entityId")
+    int deleteByEntity(@Param("entityType") String entityType, @Param("entityId") long entityId);
+}
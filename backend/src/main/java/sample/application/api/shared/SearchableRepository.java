@@ -0,0 +1,69 @@
+package sample.application.api.shared;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.model.SearchGram;
+
+import java.util.Collection;
+import java.util.List;
+
+/// An [EntityRepository] for entities that can be searched by a normalized text
+/// (case and accent insensitive), using indexes.
+/// @param <T> type of the entity
+/// @author Manoel Campos
+/// @see AbstractSearchableModel
+@NoRepositoryBean
+public interface SearchableRepository<T extends AbstractSearchableModel> extends EntityRepository<T> {
+    /// Condition that selects the entities having all the given [SearchGram]s.
+    /// Since the gram index is used to find the entities, the table isn't fully scanned.
+    String HAVING_ALL_GRAMS =
+        "e.id in (select g.entityId from SearchGram g where g.entityType = '#{#entityName}' and g.gram in :grams " +
+        "group by g.entityId having count(distinct g.gram) = :gramCount)";
+
+    /// {@return a page of entities whose [AbstractSearchableModel#searchText] starts with a given text, using its index}
+    /// @param prefix the normalized text to search for (LIKE wildcards are escaped)
+    /// @param pageable the page to get
+    Page<T> findBySearchTextStartingWith(String prefix, Pageable pageable);
+
+    /// {@return a page of entities whose [AbstractSearchableModel#searchText] contains a given text}
+    /// Since no index is used, it should only be used for texts shorter than [SearchGram#SIZE],
+    /// which cannot be split into grams.
+    /// @param text the normalized text to search for (LIKE wildcards are escaped)
+    /// @param pageable the page to get
+    Page<T> findBySearchTextContaining(String text, Pageable pageable);
+
+    /// {@return a page of entities whose [AbstractSearchableModel#searchText] contains a given text}
+    /// The entities having all the [SearchGram]s of the text are found first, using the gram index.
+    /// Since such entities may have the grams in another order (such as "paulo" and "aulpau" both have "pau" and "aul"),
+    /// only the ones actually containing the text are returned.
+    /// @param pattern a LIKE pattern such as `%aul%` (using `\` as escape character)
+    /// @param grams the grams of the searched text
+    /// @param gramCount number of grams
+    /// @param pageable the page to get
+    @Query(value = "select e from #{#entityName} e where e.searchText like :pattern escape '\\' and " + HAVING_ALL_GRAMS,
+           countQuery = "select count(e) from #{#entityName} e where e.searchText like :pattern escape '\\' and " + HAVING_ALL_GRAMS)
+    Page<T> findBySearchGrams(
+        @Param("pattern") String pattern, @Param("grams") Collection<String> grams,
+        @Param("gramCount") long gramCount, Pageable pageable);
+
+    /// {@return entities whose [AbstractSearchableModel#searchText] wasn't computed yet, sorted by ID}
+    /// That happens for rows inserted directly in the database (such as by the import.sql file).
+    /// @param id only entities with an ID greater than this one are returned,
+    ///           so that the entities can be read in chunks
+    /// @param limit maximum number of entities to return
+    List<T> findBySearchTextIsNullAndIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /// Sets the [AbstractSearchableModel#searchText] of an entity, without loading it.
+    /// Since it's a bulk update, the entity is evicted from the second-level cache (if the entity is cached).
+    /// @param id ID of the entity
+    /// @param searchText the normalized text
+    @Modifying
+    @Query("update #{#entityName} e set e.searchText = :searchText where e.id = :id")
+    void updateSearchText(@Param("id") long id, @Param("searchText") String searchText);
+}
@@ -1,33 +1,62 @@
 package sample.application.api.shared.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.github.manoelcampos.dtogen.DTORecord;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import sample.application.api.shared.EntityRepository;
 import sample.application.api.shared.model.AbstractBaseModel;
 import sample.application.api.shared.model.BaseModel;
 import sample.application.api.shared.service.AbstractCrudService;
+import sample.application.api.shared.service.BulkResult;
+import sample.application.api.shared.util.ETagUtil;
 import sample.application.api.shared.validator.CustomValidator;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static sample.application.api.shared.controller.RestExceptionHandler.newConflictException;
+import static sample.application.api.shared.controller.RestExceptionHandler.toHttpError;
 
 /// Base class for implementing [RestController] that provide all CRUD operations
 /// and can work with both entities (model classes) and DTOs.
 /// If a DTO is passed in parameter D, the methods [#insert(Object)]
-/// and [#update(long,Object)] will receive a DTO instead of a corresponding entity.
+/// and [#update(long,Object,WebRequest)] will receive a DTO instead of a corresponding entity.
 ///
 /// Each child class must include the annotation [RestController] and [RequestMapping].
 ///
@@ -43,6 +72,19 @@ public abstract class AbstractController<T extends AbstractBaseModel, D, R exten
     /// If no validator class for the entity is defined, an instance of [CustomValidator] is used.
     @Autowired
     private CustomValidator<T> validator;
+
+    /// Validates the Bean Validation annotations (such as `@NotNull`) of entities sent to bulk operations.
+    @Autowired
+    private Validator beanValidator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /// Maximum number of items accepted by a single bulk request.
+    /// @see #insertAll(List)
+    @Value("${bulk.max-items:10000}")
+    private int bulkMaxItems;
+
     private final Class<D> dtoClass;
 
     /// An empty [DTORecord] instance, just to allow calling the [DTORecord#fromModel(Object)] method.
@@ -68,13 +110,23 @@ public abstract class AbstractController<T extends AbstractBaseModel, D, R exten
         throw newNotFoundException(id);
     }
 
+    /// Gets an entity by its ID.
+    /// The response has an ETag based on the version of the entity and of its related entities (see [ETagUtil]).
+    /// If it matches the `If-None-Match` request header, a 304 (Not Modified) response
+    /// is sent without serializing the entity.
+    /// @param id ID of the entity
+    /// @return the entity found
     @GetMapping("{id}")
     public ResponseEntity<T> findById(@Valid @PathVariable final long id) {
         return getService().findById(id)
-                      .map(ResponseEntity::ok)
+                      .map(entity -> okWithETag(ETagUtil.of(entity)).body(entity))
                       .orElseThrow(() -> newNotFoundException(id));
     }
 
+    /// Gets an entity by its ID, as a DTO.
+    /// The ETag is handled as in [#findById(long)].
+    /// @param id ID of the entity
+    /// @return the DTO of the entity found
     @GetMapping("/dto/{id}")
     @SuppressWarnings("unchecked")
     public ResponseEntity<D> findDtoById(@Valid @PathVariable final long id) {
@@ -85,12 +137,68 @@ public abstract class AbstractController<T extends AbstractBaseModel, D, R exten
         This indicates that the controller does not work with DTOs, but only with entities.
         Therefore, casting the model (of type `T`) to `D` will not work (since `D` is the same type `T`).
         */
-        return ResponseEntity.ok((D) (emptyDto == null ? model : emptyDto.fromModel(model)));
+        final var dto = (D) (emptyDto == null ? model : emptyDto.fromModel(model));
+        return okWithETag(ETagUtil.of(model)).body(dto);
     }
 
+    /// Gets a page of entities.
+    /// The page is selected by the `page` (zero-based), `size` and `sort` query parameters,
+    /// such as `?page=2&size=50&sort=name,desc`.
+    /// The `size` is limited by the `spring.data.web.pageable.max-page-size` property,
+    /// so that a client cannot load a whole table at once.
+    /// If no sort order is given, entities are sorted by ID, to ensure a stable order between pages.
+    /// The response has an ETag based on the ID and version of the entities in the page and of their related entities (see [ETagUtil]),
+    /// so that a client polling the same page gets a 304 (Not Modified) response when nothing has changed.
+    ///
+    /// @param pageable the page requested by the client
+    /// @return a [PagedModel] containing the entities in the page and the total number of entities and pages
     @GetMapping
-    public ResponseEntity<List<T>> findAll() {
-        return ResponseEntity.ok(getService().findAll());
+    public ResponseEntity<PagedModel<T>> findAll(@PageableDefault(sort = "id") final Pageable pageable) {
+        return pageResponse(getService().findAll(pageable));
+    }
+
+    /// Gets a page of entities like [#findAll(Pageable)], but only with the requested fields,
+    /// such as `GET /customer?fields=name,city.name&page=0&size=20`.
+    /// Only the requested columns are read from the database and only the associations
+    /// having some requested field are joined, instead of loading whole entities and all their eager associations.
+    /// The `id` of the entities is always included.
+    ///
+    /// @param fields the fields to get, where the fields of an association are separated by dots (see [#FIELDS])
+    /// @param pageable the page requested by the client
+    /// @return a [PagedModel] containing the fields of the entities in the page and the total number of entities and pages
+    @GetMapping(params = FIELDS)
+    public PagedModel<Map<String, Object>> findAll(
+        @RequestParam(FIELDS) final List<String> fields, @PageableDefault(sort = "id") final Pageable pageable)
+    {
+        return new PagedModel<>(selectFields(() -> getService().findAll(fields, pageable)));
+    }
+
+    /// Exports all entities as [NDJSON](https://github.com/ndjson/ndjson-spec) (one JSON object per line).
+    /// Entities are read from the database through a cursor and each one is written to the response
+    /// as soon as it's read, without building a list of entities or a JSON array in memory.
+    /// This way, the client starts receiving data right away and the memory usage
+    /// doesn't grow with the size of the table.
+    ///
+    /// @param response the response to write the entities to
+    /// @throws IOException when the response cannot be written
+    /// @see AbstractCrudService#forEach(java.util.function.Consumer)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final var out = response.getOutputStream();
+        final var writer = objectMapper.writer();
+        getService().forEach(entity -> writeLine(out, writer, entity));
+        out.flush();
+    }
+
+    private static void writeLine(final ServletOutputStream out, final ObjectWriter writer, final Object entity) {
+        try {
+            out.write(writer.writeValueAsBytes(entity));
+            out.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /// Inserts an object as a new record in the database.
@@ -113,12 +221,18 @@ public abstract class AbstractController<T extends AbstractBaseModel, D, R exten
     }
 
     /// Updates a record in the database using data from an object.
+    /// If the `If-Match` request header is given, the record is only updated if it matches
+    /// the current ETag of the record (the one returned by [#findById(long)]).
+    /// If it doesn't match, a 412 (Precondition Failed) response is sent, since the record was changed
+    /// after the client got it.
+    /// This way, a client doesn't overwrite changes made by other clients.
     ///
     /// @param obj object that can be an entity of type T or a [DTORecord].
-    /// @return
+    /// @param request the request, used to check the `If-Match` header
+    /// @return a response containing the new ETag of the record
     @PutMapping("{id}")
     @Transactional
-    public void update(@Valid @PathVariable final long id, @Valid @RequestBody final D obj) {
+    public ResponseEntity<Void> update(@Valid @PathVariable final long id, @Valid @RequestBody final D obj, final WebRequest request) {
         final T entity = getEntity(obj);
         if (!entity.isSameId(id)) {
             final var msg = "The provided ID (%d) does not match the %s ID (%d)".formatted(id, getService().getEntityClassName(), entity.getId());
@@ -127,13 +241,133 @@ public abstract class AbstractController<T extends AbstractBaseModel, D, R exten
 
         validate(entity);
 
+        // The entity is got here (instead of inside save()) so that a missing record results in a 404 response.
+        // It's loaded once to get both its version and its ETag (which includes the versions of its related entities).
+        final T current = getService().findById(id).orElseThrow(() -> newNotFoundException(id));
+        final long version = Objects.requireNonNullElse(current.version, 0L);
+        final String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        final boolean conditional = ifMatch != null;
+        if (conditional && !ETagUtil.matches(ifMatch, ETagUtil.of(current)))
+            return ResponseEntity.status(PRECONDITION_FAILED).build();
+
+        // Saving fails if the record is changed by another request after its version was got above
+        entity.version = version;
+
         try {
-            getService().save(entity);
+            final T saved = getService().save(entity);
+            return ResponseEntity.ok().eTag(ETagUtil.of(saved)).build();
         } catch (final ConstraintViolationException e) {
             throw newConflictException(e.getMessage());
+        } catch (final OptimisticLockingFailureException e) {
+            if (conditional)
+                throw new ResponseStatusException(PRECONDITION_FAILED, "The %s was changed by another request".formatted(getService().getEntityClassName()), e);
+
+            throw e;
         }
     }
 
+    /// Inserts multiple objects as new records in the database, such as `POST /customer/bulk`
+    /// with a JSON array in the request body.
+    /// Each item is validated and the valid ones are saved in chunks, each chunk in its own transaction
+    /// (see [AbstractCrudService#saveAll(List, java.util.function.Function)]).
+    /// An invalid item or an item that cannot be saved (such as one violating a unique constraint)
+    /// doesn't prevent the other items from being saved.
+    ///
+    /// @param objs objects that can be entities of type T or [DTORecord]s.
+    /// @return a [BulkReport] with the status of each item (201 for the inserted ones)
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkReport> insertAll(@RequestBody final List<D> objs) {
+        return ResponseEntity.ok(saveAll(objs, true));
+    }
+
+    /// Updates multiple records in the database, such as `PUT /customer/bulk`
+    /// with a JSON array in the request body, where each object must have the ID of the record to update.
+    /// Items are processed as in [#insertAll(List)].
+    ///
+    /// @param objs objects that can be entities of type T or [DTORecord]s.
+    /// @return a [BulkReport] with the status of each item (200 for the updated ones)
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkReport> updateAll(@RequestBody final List<D> objs) {
+        return ResponseEntity.ok(saveAll(objs, false));
+    }
+
+    /// Deletes multiple records from the database, such as `DELETE /customer/bulk`
+    /// with a JSON array of IDs in the request body.
+    /// The records are deleted in chunks, each chunk in its own transaction
+    /// (see [AbstractCrudService#deleteAllById(List)]).
+    /// A record that cannot be deleted (such as one not found or referenced by other records)
+    /// doesn't prevent the other ones from being deleted.
+    ///
+    /// @param ids IDs of the records to delete
+    /// @return a [BulkReport] with the status of each item (204 for the deleted ones)
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkReport> deleteAll(@RequestBody final List<Long> ids) {
+        checkBulkSize(ids);
+        final var results = getService().deleteAllById(ids);
+        final var items = new ArrayList<BulkReport.Item>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            items.add(bulkItem(i, ids.get(i), results.get(i), HttpStatus.NO_CONTENT));
+        }
+
+        return ResponseEntity.ok(new BulkReport(items));
+    }
+
+    /// Validates and saves multiple objects.
+    /// @param objs objects that can be entities of type T or [DTORecord]s.
+    /// @param inserting true to insert the objects as new records, false to update existing records
+    /// @return a [BulkReport] with the status of each item
+    private BulkReport saveAll(final List<D> objs, final boolean inserting) {
+        checkBulkSize(objs);
+        final var items = new BulkReport.Item[objs.size()];
+        final var entities = objs.stream().map(obj -> newBulkEntity(obj, inserting)).toList();
+        final var existingIds = inserting ? Set.<Long>of() : getService().findExistingIds(entities.stream().map(entity -> entity.id).filter(Objects::nonNull).toList());
+
+        // Indexes of the items that are valid and will be saved
+        final var validIndexes = new ArrayList<Integer>(objs.size());
+        for (int i = 0; i < entities.size(); i++) {
+            final T entity = entities.get(i);
+            final String errors = bulkValidationErrors(entity);
+            if (!errors.isEmpty())
+                items[i] = new BulkReport.Item(i, entity.id, CONFLICT.value(), errors);
+            else if (!inserting && entity.id == null)
+                items[i] = new BulkReport.Item(i, null, CONFLICT.value(), "The ID of the %s to update is required".formatted(getService().getEntityClassName()));
+            else if (!inserting && !existingIds.contains(entity.id))
+                items[i] = new BulkReport.Item(i, entity.id, NOT_FOUND.value(), "%s with ID %d not found".formatted(getService().getEntityClassName(), entity.id));
+            else validIndexes.add(i);
+        }
+
+        // The entity is created again from the object each time it's saved, since a failed save may have changed it
+        final var results = getService().saveAll(validIndexes, i -> newBulkEntity(objs.get(i), inserting));
+        final var successStatus = inserting ? HttpStatus.CREATED : HttpStatus.OK;
+        for (int i = 0; i < validIndexes.size(); i++) {
+            final int index = validIndexes.get(i);
+            items[index] = bulkItem(index, entities.get(index).id, results.get(i), successStatus);
+        }
+
+        return new BulkReport(Arrays.asList(items));
+    }
+
+    private T newBulkEntity(final D obj, final boolean inserting) {
+        final T entity = getEntity(obj);
+        if (inserting)
+            entity.id = null;
+
+        return entity;
+    }
+
+    private static BulkReport.Item bulkItem(final int index, final @Nullable Long id, final BulkResult result, final HttpStatus successStatus) {
+        if (result.isSuccess())
+            return new BulkReport.Item(index, result.id(), successStatus.value(), null);
+
+        final var error = toHttpError(Objects.requireNonNull(result.error()));
+        return new BulkReport.Item(index, id, error.status(), error.message());
+    }
+
+    private void checkBulkSize(final List<?> items) {
+        if (items.size() > bulkMaxItems)
+            throw new ResponseStatusException(BAD_REQUEST, "A bulk request cannot have more than %d items".formatted(bulkMaxItems));
+    }
+
     /// Attempts to convert an object D to the generic type T, which represents an entity managed
     /// by the service.
     ///
@@ -155,14 +389,32 @@ public abstract class AbstractController<T extends AbstractBaseModel, D, R exten
     }
 
     private void validate(final T entity) {
+        final var errors = customValidationErrors(entity);
+        if (errors.hasErrors())
+            throw new ResponseStatusException(CONFLICT, errorMessages(errors));
+    }
+
+    private BindException customValidationErrors(final T entity) {
         final var errors = new BindException(entity, entity.getClass().getSimpleName());
         validator.validate(entity, errors);
-        final var errorsStr = errors.getAllErrors()
-                                    .stream()
-                                    .map(DefaultMessageSourceResolvable::getCode)
-                                    .collect(Collectors.joining(";\n"));
-        if (errors.hasErrors())
-            throw new ResponseStatusException(CONFLICT, errorsStr);
+        return errors;
+    }
+
+    private static String errorMessages(final BindException errors) {
+        return errors.getAllErrors()
+                     .stream()
+                     .map(DefaultMessageSourceResolvable::getCode)
+                     .collect(Collectors.joining(";\n"));
+    }
+
+    /// {@return the validation errors of an entity sent to a bulk operation, or an empty string if it's valid}
+    /// Since the items of a bulk request are not validated by the `@Valid` annotation
+    /// (which would reject the whole request when a single item is invalid),
+    /// both the Bean Validation annotations and the [CustomValidator] are checked.
+    private String bulkValidationErrors(final T entity) {
+        final var beanErrors = beanValidator.validate(entity).stream().map(error -> "%s %s".formatted(error.getPropertyPath(), error.getMessage()));
+        final var customErrors = customValidationErrors(entity).getAllErrors().stream().map(DefaultMessageSourceResolvable::getCode);
+        return Stream.concat(beanErrors, customErrors).collect(Collectors.joining(";\n"));
     }
 
     /// Creates an empty [DTORecord], just to allow calling the method [DTORecord#fromModel(Object)]
@@ -0,0 +1,82 @@
+package sample.application.api.shared.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import sample.application.api.shared.ReactiveReadRepository;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static sample.application.api.shared.util.StringUtil.escapeLike;
+
+/// Base class for [RestController]s that provide a non-blocking read-only API,
+/// such as `GET /reactive/city`, for high fan-out lookups.
+/// Rows are read through R2DBC by a [ReactiveReadRepository], so no thread is blocked while
+/// waiting for the database and the request thread is released until the results are available.
+///
+/// Lists are returned as a [Flux], which is streamed to the client as it's produced when the
+/// `application/x-ndjson` media type is requested (one JSON object per line),
+/// or collected into a JSON array when `application/json` is requested.
+/// When streaming, a new row is only written when the previous one was sent to the client
+/// (backpressure), and rows are requested from the database in batches of `reactive.prefetch` rows.
+/// This way, slow clients don't make the whole result to be loaded into memory.
+///
+/// Each child class must include the [RestController] and [RequestMapping] annotations.
+/// @param <V> type of the view the controller returns
+/// @param <R> type of the repository that reads the views
+/// @author Manoel Campos
+public abstract class AbstractReactiveController<V, R extends ReactiveReadRepository<V>> {
+    private final Class<V> viewClass;
+    private final R repository;
+
+    /// Maximum number of rows requested from the database at a time by list endpoints.
+    @Value("${reactive.prefetch:256}")
+    private int prefetch;
+
+    protected AbstractReactiveController(final Class<V> viewClass, final R repository) {
+        this.viewClass = viewClass;
+        this.repository = repository;
+    }
+
+    /// Gets all rows sorted by ID, such as `GET /reactive/city`.
+    /// @return a [Flux] emitting all rows
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<V> findAll() {
+        return repository.findAllByOrderByIdAsc().limitRate(prefetch);
+    }
+
+    /// Gets a row by ID, such as `GET /reactive/city/1`.
+    /// @param id the ID of the row
+    /// @return a [Mono] emitting the row or a 404 error if it doesn't exist
+    @GetMapping("{id}")
+    public Mono<V> findById(@PathVariable final long id) {
+        return repository.findById(id).switchIfEmpty(Mono.error(() -> newNotFoundException(id)));
+    }
+
+    /// Searches for rows starting with a given text, such as `GET /reactive/city/search?q=São`.
+    /// @param q the text to search for
+    /// @return a [Flux] emitting the rows found
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<V> search(@RequestParam final String q) {
+        return findByPattern(escapeLike(q) + "%").limitRate(prefetch);
+    }
+
+    /// {@return a [Flux] emitting the rows whose searchable field (such as the name) matches a SQL LIKE pattern}
+    /// @param pattern a SQL LIKE pattern such as `São%`
+    protected abstract Flux<V> findByPattern(String pattern);
+
+    private ResponseStatusException newNotFoundException(final long id) {
+        final var entityName = viewClass.getSimpleName().replaceFirst("View$", "");
+        return new ResponseStatusException(NOT_FOUND, "%s with ID %d not found".formatted(entityName, id));
+    }
+
+    protected R getRepository() {
+        return repository;
+    }
+}
@@ -1,17 +1,32 @@
 package sample.application.api.shared.controller;
 
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 import sample.application.api.shared.EntityRepository;
 import sample.application.api.shared.model.AbstractBaseModel;
 import sample.application.api.shared.service.AbstractCrudService;
+import sample.application.api.shared.util.CursorUtil;
+import sample.application.api.shared.util.ETagUtil;
 import sample.application.api.shared.util.PathUtil;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static org.springframework.core.annotation.AnnotationUtils.findAnnotation;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 /// Base class for the implementation of [RestController] that will provide only query operations
@@ -21,6 +36,12 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 ///
 /// @author Manoel Campos
 public class AbstractSearchController<T extends AbstractBaseModel, R extends EntityRepository<T>, S extends AbstractCrudService<T, R>> {
+    /// Query parameter that selects only some fields of the entities returned by list endpoints (a sparse fieldset),
+    /// such as `?fields=name,city.name`.
+    /// Endpoints receiving it are mapped apart from the ones returning whole entities.
+    /// @see AbstractCrudService#findAll(java.util.Collection, org.springframework.data.domain.Pageable)
+    protected static final String FIELDS = "fields";
+
     /**
      * Relative path of the controller in the {@link RequestMapping} annotation.
      */
@@ -28,11 +49,96 @@ public class AbstractSearchController<T extends AbstractBaseModel, R extends Ent
 
     private final S service;
 
+    /// Maximum number of entities returned by list endpoints,
+    /// the same used for offset pagination.
+    @Value("${spring.data.web.pageable.max-page-size:1000}")
+    private int maxPageSize;
+
     public AbstractSearchController(final S service) {
         this.service = service;
         this.basePath = findBasePath();
     }
 
+    /// Gets a window of entities using keyset (seek) pagination, such as `GET /customer/scroll?after=cursor&limit=50`.
+    /// Instead of skipping records with an offset, each window is selected by `id > lastId`,
+    /// so getting the millionth window costs the same as the first one.
+    /// Entities are always sorted by ID.
+    ///
+    /// @param after an opaque cursor returned in [ScrollResult#next()] by a previous request,
+    ///              or null to get the first window
+    /// @param limit maximum number of entities to return (limited by the `spring.data.web.pageable.max-page-size` property)
+    /// @return a [ScrollResult] containing the entities and the cursor to get the next window
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResult<T>> scroll(
+        @RequestParam(required = false) @Nullable final String after,
+        @RequestParam(defaultValue = "20") final int limit)
+    {
+        final var position = after == null ? ScrollPosition.keyset() : ScrollPosition.forward(Map.of("id", decodeCursor(after)));
+        final var window = service.scroll(position, Math.clamp(limit, 1, maxPageSize));
+        final var content = window.getContent();
+        final var next = window.hasNext() && !content.isEmpty() ? CursorUtil.encode(content.getLast().getId()) : null;
+        final var etag = ETagUtil.of(content, next == null ? 0 : 1);
+        return okWithETag(etag).body(new ScrollResult<>(content, next));
+    }
+
+    /// Gets a window of entities like [#scroll(String, int)], but only with the requested fields,
+    /// such as `GET /customer/scroll?fields=name,city.name&limit=50`.
+    /// @param fields the fields to get (see [#FIELDS])
+    /// @param after an opaque cursor returned in [ScrollResult#next()] by a previous request,
+    ///              or null to get the first window
+    /// @param limit maximum number of entities to return (limited by the `spring.data.web.pageable.max-page-size` property)
+    /// @return a [ScrollResult] containing the fields of the entities and the cursor to get the next window
+    @GetMapping(value = "/scroll", params = FIELDS)
+    public ScrollResult<Map<String, Object>> scroll(
+        @RequestParam(FIELDS) final List<String> fields,
+        @RequestParam(required = false) @Nullable final String after,
+        @RequestParam(defaultValue = "20") final int limit)
+    {
+        final var position = after == null ? ScrollPosition.keyset() : ScrollPosition.forward(Map.of("id", decodeCursor(after)));
+        final var window = selectFields(() -> service.scroll(fields, position, Math.clamp(limit, 1, maxPageSize)));
+        final var content = window.getContent();
+        final var next = window.hasNext() && !content.isEmpty() ? CursorUtil.encode((Long) content.getLast().get("id")) : null;
+        return new ScrollResult<>(content, next);
+    }
+
+    /// Runs a query that selects only some fields of the entities (see [#FIELDS]).
+    /// @param query the query to run
+    /// @return the query result
+    /// @throws ResponseStatusException with a 400 (Bad Request) status if some requested field cannot be selected
+    /// @param <V> type of the query result
+    protected static <V> V selectFields(final Supplier<V> query) {
+        try {
+            return query.get();
+        } catch (final IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /// {@return a response containing a page of entities and its ETag}
+    /// If the ETag matches the `If-None-Match` request header, a 304 (Not Modified) response
+    /// is sent without serializing the entities.
+    /// @param page the page to return
+    /// @param <E> type of the entities in the page
+    protected static <E extends AbstractBaseModel> ResponseEntity<PagedModel<E>> pageResponse(final Page<E> page) {
+        return okWithETag(ETagUtil.of(page.getContent(), page.getTotalElements())).body(new PagedModel<>(page));
+    }
+
+    /// {@return a 200 (OK) response builder with an ETag}
+    /// The same ETag is sent for all formats a client may request (such as JSON and CBOR).
+    /// Therefore, the response varies by the `Accept` header, so that HTTP caches don't mix such formats.
+    /// @param etag the ETag of the response body
+    protected static ResponseEntity.BodyBuilder okWithETag(final String etag) {
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private static long decodeCursor(final String cursor) {
+        try {
+            return CursorUtil.decode(cursor);
+        } catch (final IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     protected URI createdUri(final T entity) {
         final Long id = Objects.requireNonNullElse(entity.getId(), 0L);
         return PathUtil.createUri(basePath, id.toString());
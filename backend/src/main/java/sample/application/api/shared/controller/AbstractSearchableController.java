@@ -0,0 +1,70 @@
+package sample.application.api.shared.controller;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.application.api.shared.SearchableRepository;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.service.AbstractSearchableService;
+
+import java.util.List;
+import java.util.Map;
+
+/// Base class for implementing [RestController] that provide all CRUD operations (see [AbstractController])
+/// and a `/search?q=` endpoint for entities that can be searched by a text (such as their name).
+///
+/// Each child class must include the annotation [RestController] and [RequestMapping].
+/// @param <T> {@inheritDoc}
+/// @param <D> {@inheritDoc}
+/// @param <R> {@inheritDoc}
+/// @author Manoel Campos
+public abstract class AbstractSearchableController<
+    T extends AbstractSearchableModel, D, R extends SearchableRepository<T>, S extends AbstractSearchableService<T, R>>
+    extends AbstractController<T, D, R, S>
+{
+    public AbstractSearchableController(final Class<D> dtoClass, final S service) {
+        super(dtoClass, service);
+    }
+
+    /// Searches for entities containing a given text (such as in their name), ignoring case and accents,
+    /// such as `GET /customer/search?q=silva&page=0&size=20`.
+    /// Use `prefix=true` to search only for entities starting with the text, such as `GET /city/search?q=sao&prefix=true`.
+    /// If no sort order is given, entities are sorted by the searched text.
+    ///
+    /// @param q the text to search for
+    /// @param prefix true to search for entities starting with the text, false to search for entities containing the text
+    /// @param pageable the page requested by the client
+    /// @return a [PagedModel] containing the entities found in the page and the total number of entities and pages
+    /// @see AbstractSearchableService#search(String, boolean, Pageable)
+    @GetMapping("/search")
+    public ResponseEntity<PagedModel<T>> search(
+        @RequestParam final String q,
+        @RequestParam(defaultValue = "false") final boolean prefix,
+        @PageableDefault(sort = {"searchText", "id"}) final Pageable pageable)
+    {
+        return pageResponse(getService().search(q, prefix, pageable));
+    }
+
+    /// Searches for entities like [#search(String, boolean, Pageable)],
+    /// but getting only the requested fields of them, such as `GET /customer/search?q=silva&fields=name,city.name`.
+    ///
+    /// @param q the text to search for
+    /// @param prefix true to search for entities starting with the text, false to search for entities containing the text
+    /// @param fields the fields to get, where the fields of an association are separated by dots (see [#FIELDS])
+    /// @param pageable the page requested by the client
+    /// @return a [PagedModel] containing the fields of the entities found in the page and the total number of entities and pages
+    @GetMapping(value = "/search", params = FIELDS)
+    public PagedModel<Map<String, Object>> search(
+        @RequestParam final String q,
+        @RequestParam(defaultValue = "false") final boolean prefix,
+        @RequestParam(FIELDS) final List<String> fields,
+        @PageableDefault(sort = {"searchText", "id"}) final Pageable pageable)
+    {
+        return new PagedModel<>(selectFields(() -> getService().search(q, prefix, fields, pageable)));
+    }
+}
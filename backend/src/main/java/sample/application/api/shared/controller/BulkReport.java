@@ -0,0 +1,27 @@
+package sample.application.api.shared.controller;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/// Report of a bulk operation (such as `POST /customer/bulk`), containing the result of each item sent.
+/// @param succeeded number of items successfully processed
+/// @param failed number of items that could not be processed
+/// @param items the result of each item, in the same order they were sent
+/// @author Manoel Campos
+public record BulkReport(int succeeded, int failed, List<Item> items) {
+    public BulkReport(final List<Item> items) {
+        this((int) items.stream().filter(Item::isSuccess).count(), (int) items.stream().filter(item -> !item.isSuccess()).count(), items);
+    }
+
+    /// Result of a single item in a bulk operation.
+    /// @param index position of the item in the request (starting from 0)
+    /// @param id ID of the entity saved/deleted, or null if the item failed
+    /// @param status HTTP status code for the item, such as 201 (created), 404 (not found) or 409 (conflict)
+    /// @param message error message, or null if the item succeeded
+    public record Item(int index, @Nullable Long id, int status, @Nullable String message) {
+        public boolean isSuccess() {
+            return status < 300;
+        }
+    }
+}
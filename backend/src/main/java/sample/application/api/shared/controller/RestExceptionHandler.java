@@ -1,11 +1,15 @@
 package sample.application.api.shared.controller;
 
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionSystemException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
@@ -16,6 +20,7 @@ import sample.application.api.shared.exception.HttpError;
 import sample.application.api.shared.model.AbstractBaseModel;
 import sample.application.api.shared.util.ConstraintViolation;
 
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.CONFLICT;
@@ -30,6 +35,7 @@ import static sample.application.api.shared.util.ConstraintViolation.findUniqueC
 @ControllerAdvice
 public class RestExceptionHandler {
     private static final Logger logger = LoggerFactory.getLogger(RestExceptionHandler.class);
+    private static final String OPTIMISTIC_LOCK_MESSAGE = "The record was changed by another request. Get it again and retry.";
 
     /// Captures [ResponseStatusException] exceptions
     /// to allow sending a message along with the status code.
@@ -52,12 +58,61 @@ public class RestExceptionHandler {
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<HttpError> handleDataIntegrityViolationException(final DataIntegrityViolationException ex) {
         final var status = CONFLICT;
-        final var msg = ConstraintViolation
-                            .findForeignKeyMessage(ex)
-                            .or(() -> findUniqueConstraintMessage(ex))
-                            .orElse("Error executing operation");
+        return ResponseEntity.status(status).body(new HttpError(status, dataIntegrityViolationMessage(ex)));
+    }
+
+    private static String dataIntegrityViolationMessage(final DataIntegrityViolationException ex) {
+        return ConstraintViolation
+                   .findForeignKeyMessage(ex)
+                   .or(() -> findUniqueConstraintMessage(ex))
+                   .orElse("Error executing operation");
+    }
+
+    /// Captures [ConstraintViolationException] exceptions thrown by the Bean Validation
+    /// of an entity being persisted/updated outside a controller endpoint parameter validation.
+    /// @param ex thrown exception
+    /// @return [ResponseEntity] with the custom error message
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<HttpError> handleConstraintViolationException(final ConstraintViolationException ex) {
+        final var status = CONFLICT;
+        return ResponseEntity.status(status).body(new HttpError(status, ex.getMessage()));
+    }
+
+    /// Captures [TransactionSystemException] exceptions, thrown when a transaction fails to commit.
+    /// When entities are saved using [sample.application.api.shared.service.WriteMode#DEFERRED],
+    /// they are only validated when the transaction is committed.
+    /// This way, a [ConstraintViolationException] is wrapped into a [TransactionSystemException]
+    /// and must be unwrapped to return the same message as when it's thrown directly.
+    /// (Database constraint violations at commit time are already thrown as [DataIntegrityViolationException]).
+    /// @param ex thrown exception
+    /// @return [ResponseEntity] with the custom error message
+    @ExceptionHandler(TransactionSystemException.class)
+    public ResponseEntity<HttpError> handleTransactionSystemException(final TransactionSystemException ex) {
+        if(ex.getMostSpecificCause() instanceof ConstraintViolationException cause)
+            return handleConstraintViolationException(cause);
 
-        return ResponseEntity.status(status).body(new HttpError(status, msg));
+        return handleResponseStatusException(ex);
+    }
+
+    /// Captures [OptimisticLockingFailureException] exceptions, thrown when an entity is saved
+    /// after being changed by another request (see [AbstractBaseModel#version]).
+    /// @param ex thrown exception
+    /// @return [ResponseEntity] with the custom error message
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<HttpError> handleOptimisticLockingFailureException(final OptimisticLockingFailureException ex) {
+        final var status = CONFLICT;
+        return ResponseEntity.status(status).body(new HttpError(status, OPTIMISTIC_LOCK_MESSAGE));
+    }
+
+    /// Captures [PropertyReferenceException] exceptions, thrown when the client
+    /// requests a list sorted by a field that doesn't exist in the entity
+    /// (such as `?sort=unknownField`).
+    /// @param ex thrown exception
+    /// @return [ResponseEntity] with the custom error message
+    @ExceptionHandler(PropertyReferenceException.class)
+    public ResponseEntity<HttpError> handlePropertyReferenceException(final PropertyReferenceException ex) {
+        final var status = HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(new HttpError(status, ex.getMessage()));
     }
 
     /// Catches a validation error from Hibernate Validator that occurs
@@ -108,6 +163,29 @@ public class RestExceptionHandler {
         return ResponseEntity.status(status).body(new HttpError(status.value(), status.name(), msg));
     }
 
+    /// {@return an [HttpError] with the status and message the handlers in this class return for an exception}
+    /// It's used when an exception must be reported without interrupting the request,
+    /// such as when a single item of a bulk operation fails.
+    /// @param ex the exception to convert
+    public static HttpError toHttpError(final RuntimeException ex) {
+        return switch (ex) {
+            case ResponseStatusException e -> new HttpError(e);
+            case DataIntegrityViolationException e -> new HttpError(CONFLICT, dataIntegrityViolationMessage(e));
+            case ConstraintViolationException e -> new HttpError(CONFLICT, e.getMessage());
+            case TransactionSystemException e when e.getMostSpecificCause() instanceof ConstraintViolationException cause ->
+                new HttpError(CONFLICT, cause.getMessage());
+            case NoSuchElementException e -> new HttpError(HttpStatus.NOT_FOUND, e.getMessage());
+            case OptimisticLockingFailureException e -> new HttpError(CONFLICT, OPTIMISTIC_LOCK_MESSAGE);
+            case IllegalStateException e -> new HttpError(CONFLICT, e.getMessage());
+            case IllegalArgumentException e -> new HttpError(CONFLICT, e.getMessage());
+            default -> {
+                final var msg = "An unexpected error occurred";
+                logger.error(msg, ex);
+                yield new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, msg);
+            }
+        };
+    }
+
     public static ResponseStatusException newConflictException(final String msg) {
         return new ResponseStatusException(CONFLICT, msg);
     }
@@ -0,0 +1,14 @@
+package sample.application.api.shared.controller;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/// A page of records obtained by keyset (seek) pagination.
+/// @param content records in the page
+/// @param next opaque cursor to be sent to get the next page,
+///             or null if there are no more records
+/// @param <T> type of the records
+/// @author Manoel Campos
+public record ScrollResult<T>(List<T> content, @Nullable String next) {
+}
@@ -1,8 +1,12 @@
 package sample.application.api.shared.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.manoelcampos.dtogen.DTO;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Objects;
 
 /// A base class for implementing JPA Entities.
@@ -20,11 +24,26 @@ public abstract class AbstractBaseModel implements BaseModel {
     /// `@Column(nullable = false)` indicates that the field cannot be null in the database.
     /// `@Nullable` (used in the getter in the interface) indicates that the field can be null in the application, since when inserting,
     /// the record is sent without an ID, which is generated in the database.
+    ///
+    /// IDs are got from a database sequence for each entity (such as `purchase_item_seq`).
+    /// Hibernate reserves a block of IDs at every sequence call (using its pooled optimizer),
+    /// so that the IDs of many new entities are known before inserting them.
+    /// This way, such inserts can be sent in JDBC batches (see `hibernate.jdbc.batch_size` in application.properties).
+    /// That isn't possible with `GenerationType.IDENTITY`, since each row must be inserted to get its ID.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(nullable = false)
     public Long id;
 
+    /// Version of the entity, incremented by Hibernate every time the entity is updated.
+    /// It's used for optimistic locking: saving an entity having an older version than the one
+    /// in the database fails, instead of overwriting the changes made by another request.
+    /// It's also used to build the ETag returned for the entity (see [sample.application.api.shared.util.ETagUtil]).
+    /// Rows inserted directly into the database (such as by the import.sql file) start at version 0.
+    @Version @JsonIgnore @DTO.Exclude
+    @ColumnDefault("0") @Column(nullable = false)
+    public Long version;
+
     public AbstractBaseModel() {
     }
 
@@ -42,6 +61,15 @@ public abstract class AbstractBaseModel implements BaseModel {
 
     @Override public @Nullable Long getId() { return id; }
 
+    /// {@return the related entities included in the JSON of this entity (such as the city of a customer)}
+    /// The version of this entity doesn't change when such entities are changed,
+    /// so their versions are included in the ETag of this entity (see [sample.application.api.shared.util.ETagUtil]).
+    /// Entities having related ones in their JSON must override this method.
+    /// Null and not loaded entities are ignored.
+    public List<?> relatedEntities() {
+        return List.of();
+    }
+
     @Override
     public String toString() {
         return "%s{id: %d}".formatted(getClass().getSimpleName(), id);
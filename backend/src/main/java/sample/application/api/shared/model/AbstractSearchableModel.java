@@ -0,0 +1,42 @@
+package sample.application.api.shared.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.manoelcampos.dtogen.DTO;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import sample.application.api.shared.util.StringUtil;
+
+/// A base class for JPA Entities that can be searched by a text (such as their name),
+/// through a `/search?q=` endpoint (see [sample.application.api.shared.controller.AbstractSearchableController]).
+///
+/// The text is stored in a normalized way (in lower case and without accents) in the [#searchText] column,
+/// which must be indexed by each entity, such as `@Table(indexes = @Index(columnList = "search_text"))`.
+/// This way, case and accent insensitive prefix searches (such as `search_text like 'sao%'`) use such an index,
+/// instead of scanning the whole table.
+/// The text is also split into [SearchGram]s to allow indexed searches for texts in any position.
+///
+/// @author Manoel Campos
+@MappedSuperclass
+public abstract class AbstractSearchableModel extends AbstractBaseModel {
+    /// The normalized [#searchableText()], automatically updated when the entity is saved.
+    /// @see sample.application.api.shared.util.StringUtil#normalize(String)
+    @JsonIgnore @DTO.Exclude
+    public String searchText;
+
+    public AbstractSearchableModel() {
+    }
+
+    public AbstractSearchableModel(final long id) {
+        super(id);
+    }
+
+    /// {@return the text used to search the entity (such as its name)}
+    public abstract String searchableText();
+
+    /// Updates the [#searchText] from the current [#searchableText()].
+    @PrePersist @PreUpdate
+    public void updateSearchText() {
+        searchText = StringUtil.normalize(searchableText());
+    }
+}
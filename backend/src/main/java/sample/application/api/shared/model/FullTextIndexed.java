@@ -0,0 +1,23 @@
+package sample.application.api.shared.model;
+
+import jakarta.persistence.EntityListeners;
+import sample.application.api.shared.service.FullTextIndex;
+import sample.application.api.shared.service.FullTextIndexListener;
+import sample.application.api.shared.service.FullTextIndexService;
+
+import java.util.Map;
+
+/// An entity that is indexed by the [FullTextIndex], so that it can be found by words in some of its fields
+/// (such as `GET /customer/fulltext?q=maria porto`).
+/// The entity class must be annotated with `@EntityListeners(FullTextIndexListener.class)`,
+/// so that the index is updated when the entity is saved or deleted.
+/// If some fields come from related entities (such as the city name of a customer),
+/// the index must be updated when such entities change too (see [FullTextIndexService#reindexOnChange(Class, String, Class)]).
+/// @author Manoel Campos
+/// @see EntityListeners
+/// @see FullTextIndexListener
+public interface FullTextIndexed extends BaseModel {
+    /// {@return the texts to be indexed, where each key is the name of a field and each value is the text of that field}
+    /// Null texts are not indexed.
+    Map<String, String> fullTextFields();
+}
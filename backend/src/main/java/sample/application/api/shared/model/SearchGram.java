@@ -0,0 +1,39 @@
+package sample.application.api.shared.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/// A trigram (a substring with 3 characters) of the normalized [AbstractSearchableModel#searchText] of an entity.
+/// For instance, "paulo" is split into the "pau", "aul" and "ulo" trigrams.
+/// Searching for entities containing a text in any position (such as `like '%aul%'`) cannot use a regular index.
+/// Therefore, such entities are found by the trigrams of the searched text,
+/// using the index on the [#entityType] and [#gram] columns.
+/// @author Manoel Campos
+/// @see sample.application.api.shared.SearchableRepository
+@Entity
+@Table(indexes = @Index(name = "ix_search_gram", columnList = "entity_type, gram, entity_id"))
+public class SearchGram extends AbstractBaseModel {
+    /// Number of characters in each gram.
+    public static final int SIZE = 3;
+
+    /// Name of the entity class (such as `Customer`).
+    @Column(nullable = false, length = 100)
+    public String entityType;
+
+    @Column(nullable = false)
+    public long entityId;
+
+    @Column(nullable = false, length = SIZE)
+    public String gram;
+
+    public SearchGram() {
+    }
+
+    public SearchGram(final String entityType, final long entityId, final String gram) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.gram = gram;
+    }
+}
@@ -0,0 +1,25 @@
+package sample.application.api.shared.model;
+
+import org.hibernate.Interceptor;
+
+/// A Hibernate [Interceptor] that makes entities having an ID, but no [AbstractBaseModel#version],
+/// to be considered as existing (detached) entities instead of new (transient) ones.
+///
+/// Hibernate considers an entity with a null version as new, no matter its ID.
+/// But references created just from an ID (such as the district of a city sent as `districtId` in a DTO)
+/// don't have the version, since only the ID is sent by the client.
+/// Without this interceptor, saving an entity with such a reference fails,
+/// since Hibernate would consider it references an unsaved entity.
+///
+/// It's registered by the `hibernate.session_factory.interceptor` property in application.properties.
+/// @author Manoel Campos
+public class VersionedReferenceInterceptor implements Interceptor {
+    @Override
+    public Boolean isTransient(final Object entity) {
+        if(entity instanceof AbstractBaseModel model && model.id != null && model.version == null)
+            return false;
+
+        // Lets Hibernate decide
+        return null;
+    }
+}
@@ -1,13 +1,44 @@
 package sample.application.api.shared.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import sample.application.api.shared.EntityRepository;
 import sample.application.api.shared.controller.AbstractController;
 import sample.application.api.shared.model.AbstractBaseModel;
+import sample.application.api.shared.util.ListUtil;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /// Base implementation of a [CrudService] to
@@ -17,13 +48,57 @@ import java.util.function.Supplier;
 /// @author Manoel Campos
 @Service
 public abstract class AbstractCrudService<T extends AbstractBaseModel, R extends EntityRepository<T>> implements CrudService<T, R> {
+    /// Number of entities read by [#forEach(Consumer)] before they are detached from the persistence context,
+    /// so that the garbage collector can release them.
+    private static final int DETACH_INTERVAL = EntityRepository.STREAM_FETCH_SIZE;
+
     private final R repository;
+    private final Class<T> entityClass;
     private final String entityClassName;
 
+    /// Cache of entities loaded by [#findById(long)],
+    /// or null if the service class is not annotated with [EntityCache].
+    private final @Nullable Cache<Long, T> cache;
+
+    /// Classes of the entities whose changes clear the [#cache] (see [EntityCache#invalidatedBy()]).
+    private final Set<Class<? extends AbstractBaseModel>> cacheInvalidatedBy;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /// Publishes the [EntityChangedEvent]s.
+    /// It's null when the service isn't created by Spring (such as in unit tests).
+    @Autowired(required = false)
+    private @Nullable ApplicationEventPublisher eventPublisher;
+
+    /// Number of entities saved/deleted in each transaction by bulk operations.
+    /// @see #saveAll(List, Function)
+    @Value("${bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    @SuppressWarnings("unchecked")
     protected AbstractCrudService(final R repository) {
         this.repository = repository;
+        final var typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractCrudService.class);
+        this.entityClass = (Class<T>) (typeArguments == null ? AbstractBaseModel.class : typeArguments[0]);
         final var typeParameters = repository.getClass().getTypeParameters();
         entityClassName = typeParameters.length == 0 ? "Object" : typeParameters[0].getClass().getSimpleName();
+        final var cacheConfig = AnnotationUtils.findAnnotation(getClass(), EntityCache.class);
+        cache = newCache(cacheConfig);
+        cacheInvalidatedBy = cacheConfig == null ? Set.of() : Set.of(cacheConfig.invalidatedBy());
+    }
+
+    private static <T> @Nullable Cache<Long, T> newCache(final @Nullable EntityCache config) {
+        if(config == null)
+            return null;
+
+        return Caffeine.newBuilder()
+                       .maximumSize(config.maxSize())
+                       .expireAfterWrite(Duration.ofSeconds(config.ttl()))
+                       .build();
     }
 
     /// Obtains a [Supplier] of [NoSuchElementException] with the message passed as a parameter.
@@ -36,9 +111,13 @@ public abstract class AbstractCrudService<T extends AbstractBaseModel, R extends
         return () -> new NoSuchElementException(msg);
     }
 
+    /// {@inheritDoc}
+    /// The entity is removed from the cache, if the service is annotated with [EntityCache].
     @Override
     public boolean deleteById(final long id) {
-        return findById(id).map(this::deleteEntity).orElse(false);
+        final boolean deleted = findById(id).map(this::deleteEntity).orElse(false);
+        changed(id);
+        return deleted;
     }
 
     private boolean deleteEntity(final T entity){
@@ -46,9 +125,18 @@ public abstract class AbstractCrudService<T extends AbstractBaseModel, R extends
         return true;
     }
 
+    /// {@inheritDoc}
+    /// If the service is annotated with [EntityCache], the entity is got from the cache,
+    /// being loaded from the database only if it's not cached yet.
+    /// Concurrent calls for the same missing ID wait for a single database load.
+    /// Inside a transaction, the cache is bypassed, so that entities changed (but not committed yet)
+    /// by the transaction are not cached and entities managed by the transaction are not shared.
     @Override
     public Optional<T> findById(final long id) {
-        return repository.findById(id);
+        if(cache == null || TransactionSynchronizationManager.isActualTransactionActive())
+            return repository.findById(id);
+
+        return Optional.ofNullable(cache.get(id, key -> repository.findById(key).orElse(null)));
     }
 
     @Override
@@ -57,8 +145,186 @@ public abstract class AbstractCrudService<T extends AbstractBaseModel, R extends
     }
 
     @Override
+    public Page<T> findAll(final Pageable pageable) {
+        return repository.findAll(pageable);
+    }
+
+    @Override
+    public Window<T> scroll(final ScrollPosition position, final int limit) {
+        return repository.findAllBy(position, Limit.of(limit), Sort.by("id"));
+    }
+
+    /// {@inheritDoc}
+    /// @throws IllegalArgumentException {@inheritDoc}
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(final Collection<String> fields, final Pageable pageable) {
+        return projection(fields).page(null, pageable);
+    }
+
+    /// {@inheritDoc}
+    /// @throws IllegalArgumentException {@inheritDoc}
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Map<String, Object>> scroll(final Collection<String> fields, final ScrollPosition position, final int limit) {
+        final var afterId = position instanceof KeysetScrollPosition keyset ? (Long) keyset.getKeys().get("id") : null;
+        return projection(fields).scroll(afterId, limit);
+    }
+
+    /// {@return a [FieldProjection] to select only some fields of the entities}
+    /// @param fields the fields to select
+    /// @throws IllegalArgumentException if some field cannot be selected
+    FieldProjection<T> projection(final Collection<String> fields) {
+        return new FieldProjection<>(entityManager, entityClass, fields);
+    }
+
+    /// {@inheritDoc}
+    /// Subclasses that need to apply business rules when saving an entity
+    /// should override [#save(AbstractBaseModel, WriteMode)] instead.
+    @Override
+    @Transactional
     public T save(final T entity) {
-        return repository.saveAndFlush(entity);
+        return save(entity, WriteMode.IMMEDIATE);
+    }
+
+    /// {@inheritDoc}
+    /// The entity is removed from the cache, if the service is annotated with [EntityCache].
+    ///
+    /// When an existing entity is sent without a [AbstractBaseModel#version] (such as one created from a request body),
+    /// its current version is got from the database, so that it overwrites the existing record.
+    /// When the version is given (such as from an `If-Match` header), saving fails with an
+    /// [org.springframework.dao.OptimisticLockingFailureException] if the record was changed since then.
+    @Override
+    @Transactional
+    public T save(final T entity, final WriteMode mode) {
+        if(entity.isEditing() && entity.version == null)
+            repository.findVersionById(entity.id).ifPresent(version -> entity.version = version);
+
+        final T saved = mode == WriteMode.IMMEDIATE ? repository.saveAndFlush(entity) : repository.save(entity);
+        changed(saved.getId());
+        return saved;
+    }
+
+    /// {@inheritDoc}
+    /// Each entity is saved by [#save(AbstractBaseModel, WriteMode)], so that the business rules of subclasses are applied.
+    /// The [WriteMode#DEFERRED] mode is used, so that the entities in a chunk are sent to the database
+    /// in JDBC batches when the chunk transaction is committed.
+    /// If saving some entity fails, the whole chunk is rolled back and each entity in that chunk
+    /// is saved again in its own transaction, so that only the failing entities are not saved.
+    @Override
+    public <I> List<BulkResult> saveAll(final List<I> items, final Function<? super I, T> toEntity) {
+        return bulk(items, item -> save(toEntity.apply(item), WriteMode.DEFERRED).getId());
+    }
+
+    /// {@inheritDoc}
+    /// If deleting some entity fails, the whole chunk is rolled back and each entity in that chunk
+    /// is deleted again in its own transaction, so that only the failing entities are not deleted.
+    @Override
+    public List<BulkResult> deleteAllById(final List<Long> ids) {
+        return bulk(ids, id -> {
+            if(!deleteById(id))
+                throw new NoSuchElementException("%s with ID %d not found".formatted(entityClassName, id));
+
+            return id;
+        });
+    }
+
+    @Override
+    public Set<Long> findExistingIds(final Collection<Long> ids) {
+        return repository.findExistingIds(ids);
+    }
+
+    /// Applies an operation to each item, in chunks of [#bulkChunkSize] items, each chunk in its own transaction.
+    /// @param items items to apply the operation to
+    /// @param operation operation that returns the ID of the entity saved/deleted for an item
+    /// @return the result of each item, in the same order of the given items
+    /// @param <I> type of the items
+    private <I> List<BulkResult> bulk(final List<I> items, final Function<? super I, Long> operation) {
+        final var transaction = new TransactionTemplate(transactionManager);
+        final var results = new ArrayList<BulkResult>(items.size());
+        for (final var chunk : ListUtil.partition(items, Math.max(bulkChunkSize, 1))) {
+            try {
+                results.addAll(transaction.execute(status -> chunk.stream().map(item -> BulkResult.success(operation.apply(item))).toList()));
+            } catch (final RuntimeException e) {
+                // Some item failed and the whole chunk was rolled back: each item is tried alone to find the failing ones
+                chunk.forEach(item -> results.add(bulkItem(transaction, operation, item)));
+            }
+        }
+
+        return results;
+    }
+
+    private static <I> BulkResult bulkItem(final TransactionTemplate transaction, final Function<? super I, Long> operation, final I item) {
+        try {
+            return transaction.execute(status -> BulkResult.success(operation.apply(item)));
+        } catch (final RuntimeException e) {
+            return BulkResult.failure(e);
+        }
+    }
+
+    /// Removes a saved or deleted entity from the cache (if the service is annotated with [EntityCache])
+    /// and notifies the services that cache entities including it (see [EntityCache#invalidatedBy()]).
+    /// @param id ID of the changed entity
+    private void changed(final @Nullable Long id) {
+        if(cache != null && id != null)
+            invalidate(() -> cache.invalidate(id));
+
+        if(eventPublisher != null)
+            eventPublisher.publishEvent(new EntityChangedEvent(entityClass));
+    }
+
+    /// Clears the cache when an entity included in the cached ones is changed,
+    /// if its class is in the [EntityCache#invalidatedBy()] of this service.
+    /// @param event the event with the class of the changed entity
+    @EventListener
+    public void relatedEntityChanged(final EntityChangedEvent event) {
+        if(cache != null && cacheInvalidatedBy.contains(event.entityClass()))
+            invalidate(cache::invalidateAll);
+    }
+
+    /// Removes entities from the cache.
+    /// If there is an active transaction, they are removed again after it completes.
+    /// This way, an old version of the entities loaded by a concurrent request before the transaction is committed
+    /// doesn't remain in the cache.
+    /// @param invalidation the operation that removes the entities from the cache
+    private static void invalidate(final Runnable invalidation) {
+        invalidation.run();
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    /// {@inheritDoc}
+    /// The entities are read through [EntityRepository#streamAllBy()] and the persistence context
+    /// is cleared at every [#DETACH_INTERVAL] entities.
+    /// Therefore, the memory usage stays the same, no matter the size of the table.
+    /// The consumer must not keep references to the entities it receives expecting they will remain managed.
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<? super T> consumer) {
+        try (var stream = repository.streamAllBy()) {
+            final var iterator = stream.iterator();
+            for (int count = 1; iterator.hasNext(); count++) {
+                consumer.accept(iterator.next());
+                if (count % DETACH_INTERVAL == 0)
+                    entityManager.clear();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Long> findVersionById(final long id) {
+        return repository.findVersionById(id);
+    }
+
+    /// {@return the class of the entity handled by the service}
+    public Class<T> getEntityClass() {
+        return entityClass;
     }
 
     @Override
@@ -0,0 +1,172 @@
+package sample.application.api.shared.service;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.application.api.shared.SearchableRepository;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.model.SearchGram;
+import sample.application.api.shared.util.StringUtil;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static sample.application.api.shared.util.StringUtil.escapeLike;
+
+/// Base implementation of a [CrudService] for entities that can be searched by a text (such as their name),
+/// in a case and accent insensitive way, using indexes.
+/// The [SearchGram]s of the entities are updated when they are saved or deleted.
+/// If the subclass is annotated with [Autocomplete], an in-memory [AutocompleteIndex] of the entities is also kept.
+/// @param <T> {@inheritDoc}
+/// @param <R> {@inheritDoc}
+/// @author Manoel Campos
+public abstract class AbstractSearchableService<T extends AbstractSearchableModel, R extends SearchableRepository<T>> extends AbstractCrudService<T, R> {
+    private final SearchIndexService searchIndex;
+
+    /// Index of the entities for [#autocomplete(String, int)],
+    /// or null if the service class is not annotated with [Autocomplete].
+    private final @Nullable AutocompleteIndex autocompleteIndex;
+    private final int maxSuggestions;
+
+    protected AbstractSearchableService(final R repository, final SearchIndexService searchIndex) {
+        super(repository);
+        this.searchIndex = searchIndex;
+        final var autocomplete = AnnotationUtils.findAnnotation(getClass(), Autocomplete.class);
+        this.autocompleteIndex = autocomplete == null ? null : new AutocompleteIndex();
+        this.maxSuggestions = autocomplete == null ? 0 : autocomplete.maxSuggestions();
+    }
+
+    /// Loads the text of all entities into the [AutocompleteIndex] when the application starts,
+    /// if the service is annotated with [Autocomplete].
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAutocompleteIndex() {
+        if(autocompleteIndex != null)
+            forEach(entity -> autocompleteIndex.put(entity.getId(), entity.searchableText()));
+    }
+
+    /// {@inheritDoc}
+    /// The entity is also indexed to be searched.
+    @Override
+    @Transactional
+    public T save(final T entity, final WriteMode mode) {
+        final T saved = super.save(entity, mode);
+        searchIndex.index(saved);
+        if(autocompleteIndex != null) {
+            final long id = saved.getId();
+            final String text = saved.searchableText();
+            afterCommit(() -> autocompleteIndex.put(id, text));
+        }
+
+        return saved;
+    }
+
+    /// {@inheritDoc}
+    /// The entity is also removed from the search index.
+    @Override
+    @Transactional
+    public boolean deleteById(final long id) {
+        final boolean deleted = super.deleteById(id);
+        if(deleted) {
+            searchIndex.remove(getEntityClass(), id);
+            if(autocompleteIndex != null)
+                afterCommit(() -> autocompleteIndex.remove(id));
+        }
+
+        return deleted;
+    }
+
+    /// Runs an operation after the current transaction is committed (or immediately if there is no transaction),
+    /// so that the [AutocompleteIndex] doesn't show changes that are rolled back.
+    private static void afterCommit(final Runnable operation) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            operation.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                operation.run();
+            }
+        });
+    }
+
+    /// Searches for entities whose searchable text (such as the name) contains or starts with a given text,
+    /// ignoring case and accents.
+    /// - Prefix searches use the index on the [AbstractSearchableModel#searchText].
+    /// - Contains searches use the index on the [SearchGram]s of the text.
+    ///   If the text is shorter than a gram, the searchable text of all entities is scanned.
+    /// @param query the text to search for
+    /// @param prefix true to search for entities starting with the text, false to search for entities containing the text
+    /// @param pageable the page to get
+    /// @return a page of the entities found (an empty page if the text is blank)
+    @Transactional(readOnly = true)
+    public Page<T> search(final String query, final boolean prefix, final Pageable pageable) {
+        final String text = StringUtil.normalize(query);
+        if(text.isEmpty())
+            return Page.empty(pageable);
+
+        if(prefix)
+            return getRepository().findBySearchTextStartingWith(text, pageable);
+
+        final var grams = StringUtil.ngrams(text, SearchGram.SIZE);
+        if(grams.isEmpty())
+            return getRepository().findBySearchTextContaining(text, pageable);
+
+        return getRepository().findBySearchGrams("%" + escapeLike(text) + "%", grams, grams.size(), pageable);
+    }
+
+    /// Searches for entities like [#search(String, boolean, Pageable)],
+    /// but getting only some fields of them (see [CrudService#findAll(Collection, Pageable)]).
+    /// @param query the text to search for
+    /// @param prefix true to search for entities starting with the text, false to search for entities containing the text
+    /// @param fields the fields to get, where the fields of an association are separated by dots
+    /// @param pageable the page to get
+    /// @return a page with the fields of the entities found (an empty page if the text is blank)
+    /// @throws IllegalArgumentException if some field doesn't exist or cannot be selected
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> search(final String query, final boolean prefix, final Collection<String> fields, final Pageable pageable) {
+        final var projection = projection(fields);
+        final String text = StringUtil.normalize(query);
+        if(text.isEmpty())
+            return Page.empty(pageable);
+
+        final String pattern = (prefix ? "" : "%") + escapeLike(text) + "%";
+        final var grams = prefix ? List.<String>of() : StringUtil.ngrams(text, SearchGram.SIZE);
+        return projection.page((root, criteria, builder) -> {
+            final var like = builder.like(root.get("searchText"), pattern, '\\');
+            if(grams.isEmpty())
+                return like;
+
+            // The same condition of SearchableRepository.HAVING_ALL_GRAMS
+            final var subquery = criteria.subquery(Long.class);
+            final var gram = subquery.from(SearchGram.class);
+            subquery.select(gram.get("entityId"))
+                    .where(builder.equal(gram.get("entityType"), getEntityClass().getSimpleName()), gram.get("gram").in(grams))
+                    .groupBy(gram.get("entityId"))
+                    .having(builder.equal(builder.countDistinct(gram.get("gram")), (long) grams.size()));
+            return builder.and(like, root.get("id").in(subquery));
+        }, pageable);
+    }
+
+    /// Finds the entities whose searchable text (such as the name) starts with a given prefix,
+    /// ignoring case and accents, using the in-memory [AutocompleteIndex] (without accessing the database).
+    /// @param prefix the prefix to search for
+    /// @param limit maximum number of suggestions to return (limited by [Autocomplete#maxSuggestions()])
+    /// @return the suggestions found, sorted by their normalized text
+    /// @throws IllegalStateException if the service is not annotated with [Autocomplete]
+    public List<AutocompleteIndex.Suggestion> autocomplete(final String prefix, final int limit) {
+        if(autocompleteIndex == null)
+            throw new IllegalStateException("Autocomplete is not enabled for " + getEntityClass().getSimpleName());
+
+        return autocompleteIndex.find(prefix, Math.min(limit, maxSuggestions));
+    }
+}
@@ -0,0 +1,24 @@
+package sample.application.api.shared.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Enables an in-memory [AutocompleteIndex] of the searchable text (such as the name) of the entities
+/// managed by an [AbstractSearchableService] subclass.
+/// The index is loaded when the application starts and is updated when the service saves or deletes entities.
+/// This way, [AbstractSearchableService#autocomplete(String, int)] doesn't access the database.
+///
+/// The index should only be enabled for small tables, since the text of all entities is kept in memory,
+/// and for entities that are only changed through the service methods,
+/// since changes made in other ways (such as bulk updates) are only seen when the application restarts.
+/// @author Manoel Campos
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Autocomplete {
+    /// Maximum number of suggestions returned by a single query.
+    int maxSuggestions() default 50;
+}
@@ -0,0 +1,85 @@
+package sample.application.api.shared.service;
+
+import sample.application.api.shared.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/// An in-memory index that finds the texts (such as entity names) starting with a given prefix,
+/// ignoring case and accents (see [StringUtil#normalize(String)]).
+///
+/// Texts are kept sorted by their normalized value, so that the texts starting with a prefix are adjacent.
+/// A query just locates the first text greater than or equal to the prefix and reads the next ones,
+/// taking `O(log n + k)` time, where `n` is the number of texts and `k` is the number of suggestions.
+///
+/// Queries don't block and can run concurrently with changes,
+/// which are applied one at a time and are seen by the next queries.
+/// @author Manoel Campos
+/// @see Autocomplete
+public final class AutocompleteIndex {
+    /// A text found for a prefix.
+    /// @param id ID of the entity the text belongs to
+    /// @param text the original text
+    public record Suggestion(long id, String text) {}
+
+    /// Key of a text in the index, which sorts texts by their normalized value (and then by ID for equal texts).
+    private record Key(String normalized, long id) {
+        private static final Comparator<Key> COMPARATOR = Comparator.comparing(Key::normalized).thenComparingLong(Key::id);
+    }
+
+    private final NavigableMap<Key, Suggestion> suggestions = new ConcurrentSkipListMap<>(Key.COMPARATOR);
+
+    /// Keys of the texts by their ID, to find the entry to remove when a text is changed or removed.
+    private final Map<Long, Key> keys = new ConcurrentHashMap<>();
+
+    /// Adds the text of an entity to the index or replaces the existing one.
+    /// @param id ID of the entity
+    /// @param text the text of the entity (a null text removes the entity from the index)
+    public synchronized void put(final long id, final String text) {
+        remove(id);
+        if(text == null)
+            return;
+
+        final var key = new Key(StringUtil.normalize(text), id);
+        keys.put(id, key);
+        suggestions.put(key, new Suggestion(id, text));
+    }
+
+    /// Removes the text of an entity from the index.
+    /// @param id ID of the entity
+    public synchronized void remove(final long id) {
+        final var key = keys.remove(id);
+        if(key != null)
+            suggestions.remove(key);
+    }
+
+    /// Finds the texts starting with a given prefix, ignoring case and accents.
+    /// @param prefix the prefix to search for
+    /// @param limit maximum number of texts to return
+    /// @return the texts found, sorted by their normalized value (an empty list if the prefix is blank)
+    public List<Suggestion> find(final String prefix, final int limit) {
+        final String normalized = StringUtil.normalize(prefix);
+        if(normalized.isEmpty() || limit <= 0)
+            return List.of();
+
+        final var found = new ArrayList<Suggestion>(Math.min(limit, 16));
+        for (final var entry : suggestions.tailMap(new Key(normalized, Long.MIN_VALUE)).entrySet()) {
+            if(found.size() == limit || !entry.getKey().normalized().startsWith(normalized))
+                break;
+
+            found.add(entry.getValue());
+        }
+
+        return found;
+    }
+
+    /// {@return the number of texts in the index}
+    public int size() {
+        return keys.size();
+    }
+}
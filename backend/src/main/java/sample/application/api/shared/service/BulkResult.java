@@ -0,0 +1,23 @@
+package sample.application.api.shared.service;
+
+import org.jetbrains.annotations.Nullable;
+
+/// Result of saving or deleting a single entity in a bulk operation.
+/// @param id ID of the saved/deleted entity, or null if the operation failed
+/// @param error the exception that made the operation fail, or null if it succeeded
+/// @author Manoel Campos
+/// @see AbstractCrudService#saveAll(java.util.List, java.util.function.Function)
+/// @see AbstractCrudService#deleteAllById(java.util.List)
+public record BulkResult(@Nullable Long id, @Nullable RuntimeException error) {
+    public static BulkResult success(final @Nullable Long id) {
+        return new BulkResult(id, null);
+    }
+
+    public static BulkResult failure(final RuntimeException error) {
+        return new BulkResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -1,12 +1,21 @@
 package sample.application.api.shared.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import sample.application.api.shared.EntityRepository;
 import sample.application.api.shared.controller.AbstractController;
 import sample.application.api.shared.model.AbstractBaseModel;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /// Provides a contract for the implementation of [Service]s that
 /// perform CRUD operations on an [AbstractController].
@@ -24,8 +33,75 @@ public interface CrudService<T extends AbstractBaseModel, R extends EntityReposi
 
     List<T> findAll();
 
+    /// {@return a page of entities, according to the page number, size and sort order requested}
+    /// Prefer this method over [#findAll()] for tables that may grow large,
+    /// since only the requested page is loaded from the database.
+    /// @param pageable the page to be fetched
+    Page<T> findAll(Pageable pageable);
+
+    /// {@return a window of entities sorted by ID, using keyset (seek) pagination}
+    /// @param position the position to start the window from,
+    ///                 such as [ScrollPosition#keyset()] for the first window
+    /// @param limit maximum number of entities in the window
+    Window<T> scroll(ScrollPosition position, int limit);
+
+    /// {@return a page with only some fields of the entities (a sparse fieldset), such as `id,name,city.name`}
+    /// Only the requested columns are read and only the associations having some requested field are joined.
+    /// Each entity is returned as a map from the field name to its value,
+    /// where the fields of an association are inside a nested map (such as `{"id": 1, "city": {"name": "Palmas"}}`).
+    /// The `id` field is always included.
+    /// @param fields the fields to get, where the fields of an association are separated by dots
+    /// @param pageable the page to be fetched
+    /// @throws IllegalArgumentException if some field doesn't exist or cannot be selected (such as a collection)
+    Page<Map<String, Object>> findAll(Collection<String> fields, Pageable pageable);
+
+    /// {@return a window with only some fields of the entities, sorted by ID, using keyset (seek) pagination}
+    /// @param fields the fields to get (see [#findAll(Collection, Pageable)])
+    /// @param position the position to start the window from,
+    ///                 such as [ScrollPosition#keyset()] for the first window
+    /// @param limit maximum number of entities in the window
+    /// @throws IllegalArgumentException if some field doesn't exist or cannot be selected (such as a collection)
+    Window<Map<String, Object>> scroll(Collection<String> fields, ScrollPosition position, int limit);
+
+    /// Saves an entity using the [WriteMode#IMMEDIATE] mode.
+    /// @param entity the entity to save
+    /// @return the saved entity
     T save(T entity);
 
+    /// Saves an entity.
+    /// @param entity the entity to save
+    /// @param mode defines if the entity is sent to the database right away or only when the transaction is committed
+    /// @return the saved entity
+    T save(T entity, WriteMode mode);
+
+    /// Saves multiple entities in chunks, where each chunk is saved in its own transaction.
+    /// A failure to save an entity doesn't prevent the other ones from being saved.
+    /// @param items objects to be converted to entities and saved (such as DTOs)
+    /// @param toEntity function that creates the entity to be saved from an item.
+    ///                 It may be called more than once for the same item, so it must always return a new entity.
+    /// @return the result of each item, in the same order of the given items
+    /// @param <I> type of the items
+    <I> List<BulkResult> saveAll(List<I> items, Function<? super I, T> toEntity);
+
+    /// Deletes multiple entities in chunks, where each chunk is deleted in its own transaction.
+    /// A failure to delete an entity (such as when it's not found) doesn't prevent the other ones from being deleted.
+    /// @param ids IDs of the entities to delete
+    /// @return the result of each deletion, in the same order of the given IDs
+    List<BulkResult> deleteAllById(List<Long> ids);
+
+    /// {@return the IDs (among the given ones) of the entities that exist in the database}
+    /// @param ids IDs of the entities to check
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /// {@return the current version of an entity, without loading it, or an empty Optional if it doesn't exist}
+    /// @param id ID of the entity
+    Optional<Long> findVersionById(long id);
+
+    /// Reads all entities from the database one at a time, passing each one to a consumer,
+    /// without loading the entire table into memory.
+    /// @param consumer the consumer that will receive each entity
+    void forEach(Consumer<? super T> consumer);
+
     /// {@return the name of the entity that the service handles}
     /// This class is the [AbstractBaseModel] defined generically
     /// in the class declarations that implement this interface.
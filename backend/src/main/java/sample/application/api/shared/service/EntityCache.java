@@ -0,0 +1,35 @@
+package sample.application.api.shared.service;
+
+import sample.application.api.shared.model.AbstractBaseModel;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Enables an in-memory read-through cache for the entities loaded by [AbstractCrudService#findById(long)].
+/// Annotate an [AbstractCrudService] subclass to cache the entities it manages.
+/// Since each service manages a single entity class, entities are cached by their ID.
+///
+/// The cache should only be enabled for entities that are read much more frequently than they are changed,
+/// since changes made without calling the service methods (such as bulk updates)
+/// are only seen after the cached entry expires.
+/// Cached entities are shared between callers, so they must not be changed directly.
+/// @author Manoel Campos
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface EntityCache {
+    /// Maximum number of entities in the cache.
+    /// When it's reached, the least recently/frequently used entities are evicted.
+    long maxSize() default 1000;
+
+    /// Time (in seconds) an entity is kept in the cache after being loaded from the database.
+    long ttl() default 300;
+
+    /// Classes of the related entities included in the cached ones (such as the city of a customer).
+    /// Cached entities keep the related entities loaded with them,
+    /// so the whole cache is cleared when an entity of such classes is saved or deleted by its service.
+    Class<? extends AbstractBaseModel>[] invalidatedBy() default {};
+}
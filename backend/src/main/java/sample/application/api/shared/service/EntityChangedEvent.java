@@ -0,0 +1,10 @@
+package sample.application.api.shared.service;
+
+import sample.application.api.shared.model.AbstractBaseModel;
+
+/// Published by an [AbstractCrudService] when an entity is saved or deleted,
+/// so that services caching entities that include it can clear their cache (see [EntityCache#invalidatedBy()]).
+/// @param entityClass class of the changed entity
+/// @author Manoel Campos
+public record EntityChangedEvent(Class<? extends AbstractBaseModel> entityClass) {
+}
@@ -0,0 +1,212 @@
+package sample.application.api.shared.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/// A query that selects only some fields of an entity (a sparse fieldset), such as `id,name,city.name`,
+/// instead of whole entities.
+/// The fields are selected through a tuple query, so that the columns not requested are not read
+/// and only the associations having some requested field are joined (instead of loading all eager associations).
+///
+/// Each row is returned as a map from the field name to its value.
+/// Fields of associations (such as `city.name`) are returned as nested maps (such as `{"city": {"name": "Palmas"}}`),
+/// so that the rows have the same structure as the serialized entities.
+/// The `id` of the entity is always selected.
+/// @param <T> type of the entity
+/// @author Manoel Campos
+final class FieldProjection<T> {
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+
+    /// Requested fields, including the ID, without duplicates and in the order they were requested.
+    private final List<String> fields;
+
+    /// Creates a projection for some fields of an entity.
+    /// @param entityManager the entity manager to run the queries
+    /// @param entityClass the class of the entity
+    /// @param fields the fields to select, where the fields of an association are separated by dots (such as `city.name`)
+    /// @throws IllegalArgumentException if some field doesn't exist, is not serialized to clients (such as the version),
+    ///                                  is an association (instead of a field inside it) or is a collection
+    FieldProjection(final EntityManager entityManager, final Class<T> entityClass, final Collection<String> fields) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        final var set = new LinkedHashSet<String>();
+        set.add(ID);
+        fields.stream().map(String::trim).filter(field -> !field.isEmpty()).forEach(set::add);
+        set.forEach(field -> validate(entityManager.getMetamodel(), entityClass, field));
+        this.fields = List.copyOf(set);
+    }
+
+    private static void validate(final Metamodel metamodel, final Class<?> entityClass, final String field) {
+        final var names = field.split("\\.", -1);
+        Type<?> type = metamodel.managedType(entityClass);
+        for (final var name : names) {
+            if(!(type instanceof ManagedType<?> managedType))
+                throw new IllegalArgumentException("Field %s cannot be selected, since %s is not an object".formatted(field, name));
+
+            final var attribute = findAttribute(managedType, name);
+            if(attribute == null || isIgnored(attribute))
+                throw new IllegalArgumentException("Unknown field: " + field);
+
+            if(!(attribute instanceof SingularAttribute<?, ?> singular))
+                throw new IllegalArgumentException("Field %s cannot be selected, since it's a collection".formatted(field));
+
+            type = singular.getType();
+        }
+
+        if(type.getPersistenceType() != Type.PersistenceType.BASIC)
+            throw new IllegalArgumentException("Field %s cannot be selected, since it's an object. Select its fields instead (such as %s.id)".formatted(field, field));
+    }
+
+    private static @Nullable Attribute<?, ?> findAttribute(final ManagedType<?> type, final String name) {
+        try {
+            return type.getAttribute(name);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /// {@return true if an attribute is not sent to clients (such as the version), so that it cannot be selected}
+    private static boolean isIgnored(final Attribute<?, ?> attribute) {
+        return attribute.getJavaMember() instanceof Field field && field.isAnnotationPresent(JsonIgnore.class);
+    }
+
+    /// {@return a page with the fields of the entities matching a condition}
+    /// The total of entities is only counted when it cannot be computed from the page itself
+    /// (such as in the last page).
+    /// @param condition the condition the entities must match, or null to select all entities
+    /// @param pageable the page to get and its sort order (which may include fields not selected)
+    Page<Map<String, Object>> page(final @Nullable Specification<T> condition, final Pageable pageable) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createTupleQuery();
+        final var root = query.from(entityClass);
+        query.multiselect(selections(root));
+        where(query, root, builder, condition);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        final var typedQuery = entityManager.createQuery(query);
+        if(pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        final var content = typedQuery.getResultList().stream().map(this::toMap).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition));
+    }
+
+    /// {@return a window with the fields of the entities, sorted by ID, using keyset (seek) pagination}
+    /// @param afterId only entities with an ID greater than this one are selected, or null to start from the first entity
+    /// @param limit maximum number of entities in the window
+    Window<Map<String, Object>> scroll(final @Nullable Long afterId, final int limit) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createTupleQuery();
+        final var root = query.from(entityClass);
+        query.multiselect(selections(root));
+        if(afterId != null)
+            query.where(builder.greaterThan(root.<Long>get(ID), afterId));
+
+        query.orderBy(builder.asc(root.get(ID)));
+
+        // One more row is read to know if there is a next window
+        final var rows = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        final var content = rows.stream().limit(limit).map(this::toMap).toList();
+        return Window.from(content, index -> ScrollPosition.forward(Map.of(ID, content.get(index).get(ID))), rows.size() > limit);
+    }
+
+    private long count(final @Nullable Specification<T> condition) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(Long.class);
+        final var root = query.from(entityClass);
+        query.select(builder.count(root));
+        where(query, root, builder, condition);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void where(
+        final CriteriaQuery<?> query, final Root<T> root, final CriteriaBuilder builder, final @Nullable Specification<T> condition)
+    {
+        final var predicate = condition == null ? null : condition.toPredicate(root, query, builder);
+        if(predicate != null)
+            query.where(predicate);
+    }
+
+    /// {@return the selections of the requested fields, in the order of [#fields]}
+    /// Associations are left joined, so that entities without some association are not excluded.
+    /// Each association is joined only once, even if many of its fields are requested.
+    private List<Selection<?>> selections(final Root<T> root) {
+        final var joins = new HashMap<String, From<?, ?>>();
+        final var selections = new ArrayList<Selection<?>>(fields.size());
+        for (final var field : fields) {
+            final int lastDot = field.lastIndexOf('.');
+            final Path<?> parent = lastDot < 0 ? root : join(root, joins, field.substring(0, lastDot));
+            selections.add(parent.get(field.substring(lastDot + 1)));
+        }
+
+        return selections;
+    }
+
+    private static From<?, ?> join(final Root<?> root, final Map<String, From<?, ?>> joins, final String path) {
+        final var existing = joins.get(path);
+        if(existing != null)
+            return existing;
+
+        final int lastDot = path.lastIndexOf('.');
+        final From<?, ?> parent = lastDot < 0 ? root : join(root, joins, path.substring(0, lastDot));
+        final From<?, ?> join = parent.join(path.substring(lastDot + 1), JoinType.LEFT);
+        joins.put(path, join);
+        return join;
+    }
+
+    private Map<String, Object> toMap(final Tuple tuple) {
+        final var map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < fields.size(); i++) {
+            put(map, fields.get(i), tuple.get(i));
+        }
+
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(final Map<String, Object> map, final String field, final @Nullable Object value) {
+        final int dot = field.indexOf('.');
+        if(dot < 0) {
+            map.put(field, value);
+            return;
+        }
+
+        final var nested = (Map<String, Object>) map.computeIfAbsent(field.substring(0, dot), key -> new LinkedHashMap<String, Object>());
+        put(nested, field.substring(dot + 1), value);
+    }
+}
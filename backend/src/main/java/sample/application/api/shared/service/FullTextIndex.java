@@ -0,0 +1,265 @@
+package sample.application.api.shared.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// An embedded full-text index (using [Apache Lucene](https://lucene.apache.org)) stored on the local disk,
+/// which finds entities by words in some of their fields.
+/// Words are indexed in lower case and without accents, so that searches are case and accent insensitive.
+///
+/// Each entity is stored as a document containing its type, its ID and its fields.
+/// Changes are visible to searches right after they are made (near real-time),
+/// but are only written to disk (committed) from time to time (see [#commit()]).
+/// This class just keeps the documents; the changes of the entities are sent to it by the [FullTextIndexService].
+/// @author Manoel Campos
+@Component
+public class FullTextIndex {
+    private static final Logger logger = LoggerFactory.getLogger(FullTextIndex.class);
+
+    private static final String TYPE = "_type";
+    private static final String ID = "_id";
+    private static final String KEY = "_key";
+
+    /// Field with the generation in which the document was written (see [#newGeneration()]).
+    private static final String GENERATION = "_generation";
+
+    /// Field that contains the text of all other fields, so that a search looks for words in any field.
+    private static final String ALL = "_all";
+
+    /// Boost given to whole words found, so that entities containing a searched word are ranked higher than
+    /// the ones containing just words that start with it.
+    private static final float WORD_BOOST = 2;
+
+    /// Searched words with fewer characters are only matched as whole words (not as prefixes),
+    /// since such short prefixes would match too many words.
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /// Generation of the documents written from now on (see [#newGeneration()]).
+    /// It starts from the current time, so that documents written after the application restarts
+    /// have a newer generation than the ones already stored.
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    /// Opens the index in a given directory, creating it if it doesn't exist.
+    /// @param directory the directory where the index is stored
+    public FullTextIndex(@Value("${fulltext.index-dir}") final Path directory) throws IOException {
+        this.directory = FSDirectory.open(directory);
+        this.writer = new IndexWriter(this.directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+        logger.info("Full-text index opened at {}", directory.toAbsolutePath());
+    }
+
+    /// Adds the document of an entity to the index or replaces the existing one.
+    /// @param type name of the entity class
+    /// @param id ID of the entity
+    /// @param fields texts to index, where each key is the name of a field
+    public void update(final String type, final long id, final Map<String, String> fields) {
+        final var doc = new Document();
+        doc.add(new StringField(TYPE, type, Field.Store.NO));
+        doc.add(new StringField(KEY, key(type, id), Field.Store.NO));
+        doc.add(new StoredField(ID, id));
+        doc.add(new LongPoint(GENERATION, generation.get()));
+        fields.forEach((name, text) -> {
+            if(text != null) {
+                doc.add(new TextField(name, text, Field.Store.NO));
+                doc.add(new TextField(ALL, text, Field.Store.NO));
+            }
+        });
+
+        run(() -> writer.updateDocument(new Term(KEY, key(type, id)), doc));
+    }
+
+    /// Removes the document of an entity from the index.
+    /// @param type name of the entity class
+    /// @param id ID of the entity
+    public void delete(final String type, final long id) {
+        run(() -> writer.deleteDocuments(new Term(KEY, key(type, id))));
+    }
+
+    /// Starts a new generation of documents, so that the documents written from now on
+    /// can be told apart from the older ones (see [#deleteOlder(String, long)]).
+    /// @return the new generation
+    public long newGeneration() {
+        return generation.incrementAndGet();
+    }
+
+    /// Removes the documents of a given type written before a generation,
+    /// such as the documents of entities that don't exist anymore after all entities were indexed again.
+    /// @param type name of the entity class
+    /// @param generation the oldest generation to keep
+    public void deleteOlder(final String type, final long generation) {
+        final var query = new BooleanQuery.Builder()
+                                .add(new TermQuery(new Term(TYPE, type)), Occur.FILTER)
+                                .add(LongPoint.newRangeQuery(GENERATION, generation, Long.MAX_VALUE), Occur.MUST_NOT)
+                                .build();
+        run(() -> writer.deleteDocuments(query));
+    }
+
+    /// Makes the last changes visible to the next searches.
+    public void refresh() {
+        run(searcherManager::maybeRefresh);
+    }
+
+    /// Finds the entities of a given type having all the searched words (or words starting with them) in any field.
+    /// Entities are ranked by relevance (how many times and in which fields the words were found).
+    /// @param type name of the entity class
+    /// @param text the words to search for
+    /// @param pageable the page to get (its sort order is ignored, since entities are sorted by relevance)
+    /// @return a page with the IDs of the entities found, sorted by relevance (an empty page if there is no word to search for)
+    public Page<Long> search(final String type, final String text, final Pageable pageable) {
+        final var words = analyze(text);
+        if(words.isEmpty())
+            return Page.empty(pageable);
+
+        final var query = new BooleanQuery.Builder().add(new TermQuery(new Term(TYPE, type)), Occur.FILTER);
+        words.forEach(word -> query.add(wordQuery(word), Occur.MUST));
+        return search(query.build(), pageable);
+    }
+
+    private Page<Long> search(final Query query, final Pageable pageable) {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            final int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+            final var topDocs = searcher.search(query, offset + pageable.getPageSize());
+            final var storedFields = searcher.storedFields();
+            final var ids = new ArrayList<Long>(pageable.getPageSize());
+            final ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = offset; i < hits.length; i++) {
+                ids.add(storedFields.document(hits[i].doc).getField(ID).numericValue().longValue());
+            }
+
+            return new PageImpl<>(ids, pageable, searcher.count(query));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private void release(final IndexSearcher searcher) {
+        if(searcher != null)
+            run(() -> searcherManager.release(searcher));
+    }
+
+    /// {@return a query that matches a word, or words starting with it, in any field}
+    private static Query wordQuery(final String word) {
+        final var wholeWord = new BoostQuery(new TermQuery(new Term(ALL, word)), WORD_BOOST);
+        if(word.length() < MIN_PREFIX_LENGTH)
+            return wholeWord;
+
+        return new BooleanQuery.Builder()
+                    .add(wholeWord, Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(ALL, word)), Occur.SHOULD)
+                    .build();
+    }
+
+    /// {@return the distinct words of a text, in the same way they are indexed (in lower case and without accents)}
+    private List<String> analyze(final String text) {
+        final var words = new ArrayList<String>();
+        try (var stream = analyzer.tokenStream(ALL, text == null ? "" : text)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                final String word = term.toString();
+                if(!words.contains(word))
+                    words.add(word);
+            }
+            stream.end();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return words;
+    }
+
+    /// Writes the changes to disk from time to time, so that they are kept if the application stops.
+    /// Committing is expensive, so it's not done for every change.
+    @Scheduled(fixedDelayString = "${fulltext.commit-interval:5000}")
+    public void commit() {
+        if(writer.isOpen() && writer.hasUncommittedChanges())
+            run(writer::commit);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static String key(final String type, final long id) {
+        return type + ":" + id;
+    }
+
+    private static void run(final IOOperation operation) {
+        try {
+            operation.run();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOOperation {
+        void run() throws IOException;
+    }
+
+    /// Splits texts into words, converting them to lower case and removing accents.
+    private static final class FoldingAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(final String fieldName) {
+            final var tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, normalize(fieldName, tokenizer));
+        }
+
+        @Override
+        protected TokenStream normalize(final String fieldName, final TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
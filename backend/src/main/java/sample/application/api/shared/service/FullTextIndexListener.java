@@ -0,0 +1,91 @@
+package sample.application.api.shared.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.application.api.shared.model.BaseModel;
+import sample.application.api.shared.model.FullTextIndexed;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/// A JPA entity listener that sends the [FullTextIndexed] entities saved or deleted
+/// (such as by [AbstractCrudService#save(sample.application.api.shared.model.AbstractBaseModel)] and [AbstractCrudService#deleteById(long)])
+/// to the [FullTextIndexService], besides the entities that some [FullTextIndexed] ones depend on
+/// (see [FullTextIndexService#reindexOnChange(Class, String, Class)]).
+/// The IDs of the entities changed in a transaction are collected and sent together after the transaction is committed.
+///
+/// It's instantiated by Spring (when referenced in an `@EntityListeners` annotation), so it can receive other beans.
+/// @author Manoel Campos
+@Component
+public class FullTextIndexListener {
+    private static final Logger logger = LoggerFactory.getLogger(FullTextIndexListener.class);
+
+    /// The service is got only when used, since this listener is created while the JPA EntityManagerFactory
+    /// (which the service depends on) is being created.
+    private final ObjectProvider<FullTextIndexService> indexService;
+
+    public FullTextIndexListener(final ObjectProvider<FullTextIndexService> indexService) {
+        this.indexService = indexService;
+    }
+
+    @PostPersist @PostUpdate @PostRemove
+    public void changed(final BaseModel entity) {
+        final Class<? extends BaseModel> entityClass = Hibernate.getClass(entity);
+        if(TransactionSynchronizationManager.isSynchronizationActive())
+            changes().add(entityClass, entity.getId());
+        else indexService.getObject().changed(entityClass, Set.of(entity.getId()));
+    }
+
+    /// {@return the changes of the current transaction}
+    /// When the first entity is changed, the changes are bound to the transaction
+    /// and are sent to the [FullTextIndexService] when it is committed.
+    private Changes changes() {
+        final var existing = (Changes) TransactionSynchronizationManager.getResource(this);
+        if(existing != null)
+            return existing;
+
+        final var changes = new Changes();
+        TransactionSynchronizationManager.bindResource(this, changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changes.idsByClass.forEach(this::reindex);
+            }
+
+            private void reindex(final Class<? extends BaseModel> entityClass, final Set<Long> ids) {
+                try {
+                    indexService.getObject().changed(entityClass, ids);
+                } catch (final RuntimeException e) {
+                    // The changes were already committed, so the request must not fail
+                    logger.error("Error updating the full-text index of {} {}. It must be rebuilt.", entityClass.getSimpleName(), ids, e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(FullTextIndexListener.this);
+            }
+        });
+
+        return changes;
+    }
+
+    /// IDs of the entities changed in a transaction, by entity class.
+    private static final class Changes {
+        private final Map<Class<? extends BaseModel>, Set<Long>> idsByClass = new LinkedHashMap<>();
+
+        void add(final Class<? extends BaseModel> entityClass, final Long id) {
+            idsByClass.computeIfAbsent(entityClass, key -> new LinkedHashSet<>()).add(id);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package sample.application.api.shared.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.application.api.shared.model.BaseModel;
+import sample.application.api.shared.model.FullTextIndexed;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/// Keeps the [FullTextIndex] in sync with the [FullTextIndexed] entities and searches such entities.
+///
+/// The entities saved or deleted in a transaction are reported by the [FullTextIndexListener]
+/// and indexed after the transaction is committed, so that rolled back changes are never indexed.
+/// The committed entities are loaded again (in a single query for each entity class),
+/// so that all their fields (including the ones of related entities, such as the city of a customer) are indexed.
+/// Since the fields of related entities are indexed too, the entities related to a changed entity
+/// (such as the customers of a renamed city) are indexed again when registered by [#reindexOnChange(Class, String, Class)].
+/// @author Manoel Campos
+@Service
+public class FullTextIndexService {
+    private static final Logger logger = LoggerFactory.getLogger(FullTextIndexService.class);
+
+    /// Number of entities loaded at a time when the index is rebuilt.
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final FullTextIndex index;
+
+    /// Transaction used to load the entities after the transaction that changed them was committed.
+    private final TransactionTemplate newReadOnlyTransaction;
+
+    /// The indexed entities that must be indexed again when a related entity is changed,
+    /// by the class of the related entity (see [#reindexOnChange(Class, String, Class)]).
+    private final Map<Class<?>, List<Dependent>> dependentsByClass = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /// Indicates if the index is rebuilt when the application starts.
+    /// It's required when the database may be changed without the application (such as by the import.sql file).
+    @Value("${fulltext.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    public FullTextIndexService(final FullTextIndex index, final PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.newReadOnlyTransaction = new TransactionTemplate(transactionManager);
+        newReadOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        newReadOnlyTransaction.setReadOnly(true);
+    }
+
+    /// Registers that the indexed entities of a given class must be indexed again when a related entity is changed,
+    /// since some of their [FullTextIndexed#fullTextFields()] come from such an entity
+    /// (such as customers, which have the name of their city indexed).
+    /// The class of the related entity must be annotated with `@EntityListeners(FullTextIndexListener.class)`.
+    /// @param entityClass class of the indexed entities
+    /// @param association name of the attribute of the indexed entities with the related entity (such as "city")
+    /// @param relatedClass class of the related entity
+    public void reindexOnChange(final Class<? extends FullTextIndexed> entityClass, final String association, final Class<? extends BaseModel> relatedClass) {
+        dependentsByClass.computeIfAbsent(relatedClass, key -> new CopyOnWriteArrayList<>()).add(new Dependent(entityClass, association));
+    }
+
+    /// Updates the documents of entities that were saved or deleted in a committed transaction,
+    /// including the documents of entities related to them (see [#reindexOnChange(Class, String, Class)]).
+    /// @param entityClass class of the changed entities
+    /// @param ids IDs of the saved or deleted entities
+    public void changed(final Class<? extends BaseModel> entityClass, final Collection<Long> ids) {
+        if(FullTextIndexed.class.isAssignableFrom(entityClass))
+            reindex(entityClass.asSubclass(FullTextIndexed.class), ids);
+
+        for (final var dependent : dependentsByClass.getOrDefault(entityClass, List.of())) {
+            newReadOnlyTransaction.executeWithoutResult(status -> {
+                final String condition = "e.%s.id in :ids".formatted(dependent.association());
+                index(dependent.entityClass(), condition, Map.of("ids", ids));
+            });
+            index.refresh();
+        }
+    }
+
+    /// Updates the documents of entities that were saved or deleted in a committed transaction.
+    /// Entities that don't exist anymore are removed from the index.
+    /// @param entityClass class of the entities
+    /// @param ids IDs of the saved or deleted entities
+    public void reindex(final Class<? extends FullTextIndexed> entityClass, final Collection<Long> ids) {
+        newReadOnlyTransaction.executeWithoutResult(status -> {
+            final var missingIds = new HashSet<>(ids);
+            for (final var entity : findAllById(entityClass, ids)) {
+                index.update(entityClass.getSimpleName(), entity.getId(), entity.fullTextFields());
+                missingIds.remove(entity.getId());
+            }
+
+            missingIds.forEach(id -> index.delete(entityClass.getSimpleName(), id));
+        });
+        index.refresh();
+    }
+
+    /// Finds the entities of a given class having all the words of a text (or words starting with them)
+    /// in any of their [FullTextIndexed#fullTextFields()].
+    /// The IDs of the entities in the requested page are got from the [FullTextIndex]
+    /// and then the entities are loaded in a single query.
+    /// @param entityClass class of the entities to search
+    /// @param text the words to search for
+    /// @param pageable the page to get (its sort order is ignored, since entities are sorted by relevance)
+    /// @return a page of the entities found, sorted by relevance
+    /// @param <T> type of the entities
+    @Transactional(readOnly = true)
+    public <T extends FullTextIndexed> Page<T> search(final Class<T> entityClass, final String text, final Pageable pageable) {
+        final Page<Long> ids = index.search(entityClass.getSimpleName(), text, pageable);
+        if(ids.isEmpty())
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+
+        final Map<Long, Integer> ranks = ranks(ids.getContent());
+        final var entities = new ArrayList<>(findAllById(entityClass, ids.getContent()));
+        // Entities deleted but still in the index (if any) are not returned
+        entities.sort(Comparator.comparing(entity -> ranks.get(entity.getId())));
+        return new PageImpl<>(entities, pageable, ids.getTotalElements());
+    }
+
+    /// {@return the position of each ID in a list}
+    private static Map<Long, Integer> ranks(final List<Long> ids) {
+        final var ranks = new HashMap<Long, Integer>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            ranks.put(ids.get(i), i);
+        }
+
+        return ranks;
+    }
+
+    /// Rebuilds the documents of all entities of a given class, reading them from the database in chunks.
+    /// It should be used when the database is changed without using the application
+    /// (so that the index doesn't have the changes).
+    ///
+    /// The documents are replaced one by one, so every entity can be found during the rebuild
+    /// (by its old or new fields, since the index may be refreshed while the rebuild runs).
+    /// The documents of entities that don't exist anymore are removed only when all entities were indexed,
+    /// since their documents are the only ones not replaced in the new [generation][FullTextIndex#newGeneration()].
+    /// @param entityClass class of the entities
+    /// @return the number of entities indexed
+    @Transactional(readOnly = true)
+    public long rebuild(final Class<? extends FullTextIndexed> entityClass) {
+        final String type = entityClass.getSimpleName();
+        final long generation = index.newGeneration();
+        final long count = index(entityClass, "1 = 1", Map.of());
+        index.deleteOlder(type, generation);
+        index.commit();
+        index.refresh();
+        logger.info("Full-text index of {} rebuilt with {} entities", type, count);
+        return count;
+    }
+
+    /// Updates the documents of the entities matching a condition, reading them from the database in chunks.
+    /// @param entityClass class of the entities
+    /// @param condition a JPQL condition, where the entity is referred to as `e`
+    /// @param parameters parameters of the condition
+    /// @return the number of entities indexed
+    private long index(final Class<? extends FullTextIndexed> entityClass, final String condition, final Map<String, ?> parameters) {
+        final String type = entityClass.getSimpleName();
+        long count = 0;
+        long lastId = Long.MIN_VALUE;
+        List<? extends FullTextIndexed> entities;
+        while (!(entities = findChunk(entityClass, condition, parameters, lastId)).isEmpty()) {
+            entities.forEach(entity -> index.update(type, entity.getId(), entity.fullTextFields()));
+            count += entities.size();
+            lastId = entities.getLast().getId();
+            // Releases the memory of the loaded entities
+            entityManager.clear();
+        }
+
+        return count;
+    }
+
+    /// Rebuilds the index of all [FullTextIndexed] entities when the application starts,
+    /// if the `fulltext.rebuild-on-startup` property is true.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if(!rebuildOnStartup)
+            return;
+
+        entityManager.getMetamodel().getEntities().stream()
+                     .map(EntityType::getJavaType)
+                     .filter(FullTextIndexed.class::isAssignableFrom)
+                     .map(entityClass -> entityClass.asSubclass(FullTextIndexed.class))
+                     .forEach(entityClass -> newReadOnlyTransaction.executeWithoutResult(status -> rebuild(entityClass)));
+    }
+
+    private <T extends FullTextIndexed> List<T> findAllById(final Class<T> entityClass, final Collection<Long> ids) {
+        final String jpql = "select e from %s e where e.id in :ids".formatted(entityName(entityClass));
+        return entityManager.createQuery(jpql, entityClass).setParameter("ids", ids).getResultList();
+    }
+
+    private <T extends FullTextIndexed> List<T> findChunk(
+        final Class<T> entityClass, final String condition, final Map<String, ?> parameters, final long lastId)
+    {
+        final String jpql = "select e from %s e where (%s) and e.id > :lastId order by e.id".formatted(entityName(entityClass), condition);
+        final var query = entityManager.createQuery(jpql, entityClass)
+                                       .setParameter("lastId", lastId)
+                                       .setMaxResults(REBUILD_CHUNK_SIZE);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private String entityName(final Class<?> entityClass) {
+        return entityManager.getMetamodel().entity(entityClass).getName();
+    }
+
+    /// Indexed entities that must be indexed again when a related entity is changed.
+    /// @param entityClass class of the indexed entities
+    /// @param association name of the attribute with the related entity
+    private record Dependent(Class<? extends FullTextIndexed> entityClass, String association) {}
+}
@@ -0,0 +1,97 @@
+package sample.application.api.shared.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.application.api.shared.SearchGramRepository;
+import sample.application.api.shared.SearchableRepository;
+import sample.application.api.shared.model.AbstractSearchableModel;
+import sample.application.api.shared.model.SearchGram;
+import sample.application.api.shared.util.StringUtil;
+
+import java.util.List;
+
+/// Keeps the [SearchGram]s of [AbstractSearchableModel] entities up to date,
+/// so that such entities can be searched by [SearchableRepository#findBySearchGrams].
+/// @author Manoel Campos
+@Service
+public class SearchIndexService {
+    /// Number of entities indexed at a time by [#indexMissing()].
+    private static final int INDEX_CHUNK_SIZE = 500;
+
+    private final SearchGramRepository gramRepository;
+    private final List<SearchableRepository<?>> repositories;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SearchIndexService(final SearchGramRepository gramRepository, final List<SearchableRepository<?>> repositories) {
+        this.gramRepository = gramRepository;
+        this.repositories = repositories;
+    }
+
+    /// Updates the [AbstractSearchableModel#searchText] of a saved entity
+    /// and replaces its grams by the ones of such a text.
+    /// @param entity the entity to index
+    @Transactional
+    public void index(final AbstractSearchableModel entity) {
+        final String type = entityType(Hibernate.getClass(entity));
+        final long id = entity.id;
+        entity.updateSearchText();
+        gramRepository.deleteByEntity(type, id);
+        saveGrams(type, entity);
+    }
+
+    private void saveGrams(final String type, final AbstractSearchableModel entity) {
+        gramRepository.saveAll(
+            StringUtil.ngrams(entity.searchText, SearchGram.SIZE).stream()
+                      .map(gram -> new SearchGram(type, entity.id, gram))
+                      .toList());
+    }
+
+    /// Removes the grams of a deleted entity.
+    /// @param entityClass class of the entity
+    /// @param id ID of the entity
+    @Transactional
+    public void remove(final Class<?> entityClass, final long id) {
+        gramRepository.deleteByEntity(entityType(entityClass), id);
+    }
+
+    /// Indexes the entities that weren't indexed yet when the application starts,
+    /// such as the ones inserted directly in the database by the import.sql file.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void indexMissing() {
+        repositories.forEach(this::indexMissing);
+    }
+
+    private <T extends AbstractSearchableModel> void indexMissing(final SearchableRepository<T> repository) {
+        long lastId = Long.MIN_VALUE;
+        List<T> entities;
+        while (!(entities = repository.findBySearchTextIsNullAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(INDEX_CHUNK_SIZE))).isEmpty()) {
+            for (final T entity : entities) {
+                // The text is only written by the bulk update, so that the entity version doesn't change
+                entityManager.detach(entity);
+                entity.updateSearchText();
+                repository.updateSearchText(entity.id, entity.searchText);
+                saveGrams(entityType(Hibernate.getClass(entity)), entity);
+            }
+
+            lastId = entities.getLast().id;
+            // Sends the grams of the chunk in JDBC batches and releases the memory of the loaded entities
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    /// {@return the name used to identify the entities of a given class}
+    /// It's the JPA entity name, which is used by [SearchableRepository] queries.
+    private static String entityType(final Class<?> entityClass) {
+        return entityClass.getSimpleName();
+    }
+}
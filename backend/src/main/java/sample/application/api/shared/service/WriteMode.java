@@ -0,0 +1,18 @@
+package sample.application.api.shared.service;
+
+/// Defines when the changes made by [AbstractCrudService#save(sample.application.api.shared.model.AbstractBaseModel, WriteMode)]
+/// are sent to the database.
+/// @author Manoel Campos
+public enum WriteMode {
+    /// The entity is sent to the database right away (flushing the persistence context).
+    /// Database errors (such as a unique constraint violation) are thrown by the save method itself.
+    IMMEDIATE,
+
+    /// The entity is only sent to the database when the persistence context is flushed,
+    /// usually when the transaction is committed.
+    /// This way, the inserts/updates of multiple entities saved in the same transaction
+    /// are sent together in JDBC batches, instead of one round trip for each entity.
+    /// Database errors are only thrown when the transaction is committed,
+    /// being converted to friendly messages by the [sample.application.api.shared.controller.RestExceptionHandler].
+    DEFERRED
+}
@@ -0,0 +1,39 @@
+package sample.application.api.shared.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/// Utility functions for encoding and decoding opaque cursors,
+/// used to navigate through records using keyset (seek) pagination.
+/// A cursor stores the ID of the last record in a page,
+/// but clients must not rely on its format, just send it back to get the next page.
+/// @author Manoel Campos
+public final class CursorUtil {
+    private static final String PREFIX = "id:";
+
+    /** Private constructor to prevent instantiating the class */
+    private CursorUtil() { throw new UnsupportedOperationException(); }
+
+    /// {@return an opaque cursor for a given record ID}
+    /// @param id ID of the last record in a page
+    public static String encode(final long id) {
+        final var bytes = (PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /// {@return the record ID stored in a cursor}
+    /// @param cursor a cursor previously created by [#encode(long)]
+    /// @throws IllegalArgumentException when the cursor is not valid
+    public static long decode(final String cursor) {
+        try {
+            final var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX))
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (final IllegalArgumentException e) {
+            // NumberFormatException is also an IllegalArgumentException
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
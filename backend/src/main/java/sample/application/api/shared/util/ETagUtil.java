@@ -0,0 +1,106 @@
+package sample.application.api.shared.util;
+
+import org.hibernate.Hibernate;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.ETag;
+import org.springframework.util.DigestUtils;
+import sample.application.api.shared.model.AbstractBaseModel;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/// Utility functions for creating the [ETag](https://www.rfc-editor.org/rfc/rfc9110#name-etag)s
+/// returned by GET endpoints, which allow clients to send `If-None-Match` (to get a 304 response
+/// when nothing has changed) and `If-Match` (to update an entity only if it wasn't changed by someone else).
+///
+/// ETags are built from the [AbstractBaseModel#version] of entities, not from the response body.
+/// This way, they can be checked without serializing the entities.
+/// Since the version of an entity only changes when its own columns are updated,
+/// the ID and version of the related entities included in the response (such as the city of a customer
+/// or the items of a purchase) are included too (see [AbstractBaseModel#relatedEntities()]).
+/// This way, changing a related entity changes the ETag of the entities that include it.
+///
+/// The ETag of a single entity is strong, since it identifies an exact version of the entity
+/// and is used for `If-Match` (which requires the strong comparison).
+/// Such responses are usually smaller than the minimum size to be compressed (`server.compression.min-response-size`).
+/// The ETag of a list of entities (such as a page) is weak (`W/"..."`), since Tomcat doesn't compress responses having a strong ETag
+/// and such responses are usually large enough to be compressed.
+/// @author Manoel Campos
+public final class ETagUtil {
+    /** Private constructor to prevent instantiating the class */
+    private ETagUtil() { throw new UnsupportedOperationException(); }
+
+    /// {@return the ETag for a given version of an entity}
+    /// @param version the version of the entity
+    public static String of(final long version) {
+        return "\"%d\"".formatted(version);
+    }
+
+    /// {@return the ETag of an entity, based on its version and the ones of its related entities}
+    /// @param entity the entity to get the ETag
+    public static String of(final AbstractBaseModel entity) {
+        final long version = Objects.requireNonNullElse(entity.version, 0L);
+        final var relatedVersions = new ArrayList<Long>();
+        entity.relatedEntities().forEach(related -> addVersions(related, relatedVersions));
+        return relatedVersions.isEmpty() ? of(version) : "\"%d-%s\"".formatted(version, md5(relatedVersions));
+    }
+
+    /// {@return true if an `If-Match` request header matches an ETag, false otherwise}
+    /// The header may have a list of ETags or `*` (which matches any ETag).
+    /// Weak ETags never match, as required for `If-Match`.
+    /// @param ifMatch the value of the `If-Match` header
+    /// @param etag the current ETag of the resource
+    public static boolean matches(final String ifMatch, final String etag) {
+        final var current = ETag.create(etag);
+        return ETag.parse(ifMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, true));
+    }
+
+    /// {@return the weak ETag of a list of entities (such as a page), based on the ID and version of each entity
+    /// and of their related entities}
+    /// Any entity added, removed or changed in the list results in a different ETag.
+    /// @param entities the entities to get the ETag
+    /// @param extra other values included in the response, which must also change the ETag when they change
+    ///              (such as the total number of entities in a paged response)
+    public static String of(final List<? extends AbstractBaseModel> entities, final long... extra) {
+        final var values = new ArrayList<Long>(extra.length + entities.size() * 2);
+        for (final long value : extra) {
+            values.add(value);
+        }
+
+        entities.forEach(entity -> addVersions(entity, values));
+        return "W/\"%s\"".formatted(md5(values));
+    }
+
+    /// Adds the ID and version of an entity (and of its related entities) to a list.
+    /// @param related an entity or a collection of entities, which is ignored if null or not loaded
+    /// @param values the list to add the values to
+    private static void addVersions(final @Nullable Object related, final List<Long> values) {
+        if(related == null || !Hibernate.isInitialized(related))
+            return;
+
+        if(related instanceof final Collection<?> collection) {
+            // The order of the entities in a collection (such as the items of a purchase) may change between queries
+            collection.stream()
+                      .map(Hibernate::unproxy)
+                      .map(AbstractBaseModel.class::cast)
+                      .sorted(Comparator.comparing(entity -> Objects.requireNonNullElse(entity.id, 0L)))
+                      .forEach(entity -> addVersions(entity, values));
+            return;
+        }
+
+        final var entity = (AbstractBaseModel) Hibernate.unproxy(related);
+        values.add(Objects.requireNonNullElse(entity.id, 0L));
+        values.add(Objects.requireNonNullElse(entity.version, 0L));
+        entity.relatedEntities().forEach(child -> addVersions(child, values));
+    }
+
+    private static String md5(final List<Long> values) {
+        final var buffer = ByteBuffer.allocate(Long.BYTES * values.size());
+        values.forEach(buffer::putLong);
+        return DigestUtils.md5DigestAsHex(buffer.array());
+    }
+}
@@ -1,5 +1,6 @@
 package sample.application.api.shared.util;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -30,4 +31,23 @@ public final class ListUtil {
         list.add(item);
         return list;
     }
+
+    /// Splits a list into consecutive sublists (chunks) of a given size.
+    /// The last chunk may have less items.
+    /// The chunks are views of the original list, which must not be changed while they are used.
+    /// @param list the list to split
+    /// @param size maximum number of items in each chunk
+    /// @return a list of chunks
+    /// @param <T> the type of the list elements
+    public static <T> List<List<T>> partition(final List<T> list, final int size){
+        if(size < 1)
+            throw new IllegalArgumentException("The chunk size must be at least 1");
+
+        final var chunks = new ArrayList<List<T>>((list.size() + size - 1) / size);
+        for (int i = 0; i < list.size(); i += size) {
+            chunks.add(list.subList(i, Math.min(i + size, list.size())));
+        }
+
+        return chunks;
+    }
 }
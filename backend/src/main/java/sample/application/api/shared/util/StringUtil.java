@@ -1,9 +1,13 @@
 package sample.application.api.shared.util;
 
 import org.apache.commons.lang3.RegExUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.WordUtils;
 
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Class with String utility functions.
@@ -58,4 +62,44 @@ public final class StringUtil {
     public static String onlyNumbers(final String value) {
         return Objects.requireNonNullElse(value, "").replaceAll("\\D", "");
     }
+
+    /**
+     * Normalizes a text to be searched, so that searches are case and accent insensitive.
+     * The text is converted to lower case, accents are removed and consecutive whitespaces
+     * are replaced by a single space (such as "  São  Paulo" is converted to "sao paulo").
+     *
+     * @param text text to normalize
+     * @return the normalized text (an empty String if the text is null)
+     */
+    public static String normalize(final String text) {
+        return StringUtils.normalizeSpace(StringUtils.stripAccents(Objects.requireNonNullElse(text, ""))).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * {@return the distinct substrings of a text having a given length (the n-grams of the text), in the order they appear}
+     * For instance, the 3-grams (trigrams) of "paulo" are "pau", "aul" and "ulo".
+     * If the text is shorter than the given length, no n-gram is returned.
+     *
+     * @param text text to get the n-grams
+     * @param n length of each n-gram
+     */
+    public static Set<String> ngrams(final String text, final int n) {
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+
+        return grams;
+    }
+
+    /**
+     * Escapes the wildcards of a SQL LIKE pattern (using {@code \} as escape character),
+     * so that a text is searched exactly as typed.
+     *
+     * @param text text to escape
+     * @return the escaped text
+     */
+    public static String escapeLike(final String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
@@ -1,90 +1,100 @@
-insert into district(name, abbreviation) values ('São Paulo', 'SP');
-insert into district(name, abbreviation) values ('Paraná', 'PR');
-insert into district(name, abbreviation) values ('Santa Catarina', 'SC');
-insert into district(name, abbreviation) values ('Rio Grande do Sul', 'RS');
-insert into district(name, abbreviation) values ('Mato Grosso do Sul', 'MS');
-insert into district(name, abbreviation) values ('Rondônia', 'RO');
-insert into district(name, abbreviation) values ('Acre', 'AC');
-insert into district(name, abbreviation) values ('Amazonas', 'AM');
-insert into district(name, abbreviation) values ('Roraima', 'RR');
-insert into district(name, abbreviation) values ('Pará', 'PA');
-insert into district(name, abbreviation) values ('Amapá', 'AP');
-insert into district(name, abbreviation) values ('Tocantins', 'TO');
-insert into district(name, abbreviation) values ('Maranhão', 'MA');
-insert into district(name, abbreviation) values ('Rio Grande do Norte', 'RN');
-insert into district(name, abbreviation) values ('Paraíba', 'PB');
-insert into district(name, abbreviation) values ( 'Pernambuco', 'PE');
-insert into district(name, abbreviation) values ( 'Alagoas', 'AL');
-insert into district(name, abbreviation) values ( 'Sergipe', 'SE');
-insert into district(name, abbreviation) values ( 'Bahia', 'BA');
-insert into district(name, abbreviation) values ( 'Minas Gerais', 'MG');
-insert into district(name, abbreviation) values ( 'Rio de Janeiro', 'RJ');
-insert into district(name, abbreviation) values ( 'Mato Grosso', 'MT');
-insert into district(name, abbreviation) values ( 'Goiás', 'GO');
-insert into district(name, abbreviation) values ( 'Distrito Federal', 'DF');
-insert into district(name, abbreviation) values ( 'Piauí', 'PI');
-insert into district(name, abbreviation) values ( 'Ceará', 'CE');
-insert into district(name, abbreviation) values ( 'Espírito Santo', 'ES');
+insert into district(id, name, abbreviation) values (1, 'São Paulo', 'SP');
+insert into district(id, name, abbreviation) values (2, 'Paraná', 'PR');
+insert into district(id, name, abbreviation) values (3, 'Santa Catarina', 'SC');
+insert into district(id, name, abbreviation) values (4, 'Rio Grande do Sul', 'RS');
+insert into district(id, name, abbreviation) values (5, 'Mato Grosso do Sul', 'MS');
+insert into district(id, name, abbreviation) values (6, 'Rondônia', 'RO');
+insert into district(id, name, abbreviation) values (7, 'Acre', 'AC');
+insert into district(id, name, abbreviation) values (8, 'Amazonas', 'AM');
+insert into district(id, name, abbreviation) values (9, 'Roraima', 'RR');
+insert into district(id, name, abbreviation) values (10, 'Pará', 'PA');
+insert into district(id, name, abbreviation) values (11, 'Amapá', 'AP');
+insert into district(id, name, abbreviation) values (12, 'Tocantins', 'TO');
+insert into district(id, name, abbreviation) values (13, 'Maranhão', 'MA');
+insert into district(id, name, abbreviation) values (14, 'Rio Grande do Norte', 'RN');
+insert into district(id, name, abbreviation) values (15, 'Paraíba', 'PB');
+insert into district(id, name, abbreviation) values (16, 'Pernambuco', 'PE');
+insert into district(id, name, abbreviation) values (17, 'Alagoas', 'AL');
+insert into district(id, name, abbreviation) values (18, 'Sergipe', 'SE');
+insert into district(id, name, abbreviation) values (19, 'Bahia', 'BA');
+insert into district(id, name, abbreviation) values (20, 'Minas Gerais', 'MG');
+insert into district(id, name, abbreviation) values (21, 'Rio de Janeiro', 'RJ');
+insert into district(id, name, abbreviation) values (22, 'Mato Grosso', 'MT');
+insert into district(id, name, abbreviation) values (23, 'Goiás', 'GO');
+insert into district(id, name, abbreviation) values (24, 'Distrito Federal', 'DF');
+insert into district(id, name, abbreviation) values (25, 'Piauí', 'PI');
+insert into district(id, name, abbreviation) values (26, 'Ceará', 'CE');
+insert into district(id, name, abbreviation) values (27, 'Espírito Santo', 'ES');
 
 -- District Capitals
-insert into city (district_id, name) values (1,'São Paulo'); -- São Paulo
-insert into city (district_id, name) values (2, 'Curitiba'); -- Paraná
-insert into city (district_id, name) values (3,'Florianópolis'); -- Santa Catarina
-insert into city (district_id, name) values (4,'Porto Alegre'); -- Rio Grande do Sul
-insert into city (district_id, name) values (5,'Campo Grande'); -- Mato Grosso do Sul
-insert into city (district_id, name) values (6, 'Porto Velho'); -- Rondônia
-insert into city (district_id, name) values (7, 'Rio Branco'); -- Acre
-insert into city (district_id, name) values (8, 'Manaus'); -- Amazonas
-insert into city (district_id, name) values (9, 'Boa Vista'); -- Roraima
-insert into city (district_id, name) values (10, 'Belém'); -- Pará
-insert into city (district_id, name) values (11, 'Macapá'); -- Amapá
-insert into city (district_id, name) values (12, 'Palmas'); -- Tocantins
-insert into city (district_id, name) values (13,'São Luís'); -- Maranhão
-insert into city (district_id, name) values (14,'Natal'); -- Rio Grande do Norte
-insert into city (district_id, name) values (15,'João Pessoa'); -- Paraíba
-insert into city (district_id, name) values (16,'Recife'); -- Pernambuco
-insert into city (district_id, name) values (17, 'Maceió'); -- Alagoas
-insert into city (district_id, name) values (18, 'Aracaju'); -- Sergipe
-insert into city (district_id, name) values (19, 'Salvador'); -- Bahia
-insert into city (district_id, name) values (20,'Belo Horizonte'); -- Minas Gerais
-insert into city (district_id, name) values (21,'Rio de Janeiro'); -- Rio de Janeiro
-insert into city (district_id, name) values (22, 'Cuiabá'); -- Mato Grosso
-insert into city (district_id, name) values (23,'Goiânia'); -- Goiás
-insert into city (district_id, name) values (24,'Brasília'); -- Distrito Federal
-insert into city (district_id, name) values (25, 'Teresina'); -- Piauí
-insert into city (district_id, name) values (26, 'Fortaleza'); -- Ceará
-insert into city (district_id, name) values (27,'Vitória'); -- Espírito Santo
+insert into city(id, district_id, name) values (1, 1,'São Paulo'); -- São Paulo
+insert into city(id, district_id, name) values (2, 2, 'Curitiba'); -- Paraná
+insert into city(id, district_id, name) values (3, 3,'Florianópolis'); -- Santa Catarina
+insert into city(id, district_id, name) values (4, 4,'Porto Alegre'); -- Rio Grande do Sul
+insert into city(id, district_id, name) values (5, 5,'Campo Grande'); -- Mato Grosso do Sul
+insert into city(id, district_id, name) values (6, 6, 'Porto Velho'); -- Rondônia
+insert into city(id, district_id, name) values (7, 7, 'Rio Branco'); -- Acre
+insert into city(id, district_id, name) values (8, 8, 'Manaus'); -- Amazonas
+insert into city(id, district_id, name) values (9, 9, 'Boa Vista'); -- Roraima
+insert into city(id, district_id, name) values (10, 10, 'Belém'); -- Pará
+insert into city(id, district_id, name) values (11, 11, 'Macapá'); -- Amapá
+insert into city(id, district_id, name) values (12, 12, 'Palmas'); -- Tocantins
+insert into city(id, district_id, name) values (13, 13,'São Luís'); -- Maranhão
+insert into city(id, district_id, name) values (14, 14,'Natal'); -- Rio Grande do Norte
+insert into city(id, district_id, name) values (15, 15,'João Pessoa'); -- Paraíba
+insert into city(id, district_id, name) values (16, 16,'Recife'); -- Pernambuco
+insert into city(id, district_id, name) values (17, 17, 'Maceió'); -- Alagoas
+insert into city(id, district_id, name) values (18, 18, 'Aracaju'); -- Sergipe
+insert into city(id, district_id, name) values (19, 19, 'Salvador'); -- Bahia
+insert into city(id, district_id, name) values (20, 20,'Belo Horizonte'); -- Minas Gerais
+insert into city(id, district_id, name) values (21, 21,'Rio de Janeiro'); -- Rio de Janeiro
+insert into city(id, district_id, name) values (22, 22, 'Cuiabá'); -- Mato Grosso
+insert into city(id, district_id, name) values (23, 23,'Goiânia'); -- Goiás
+insert into city(id, district_id, name) values (24, 24,'Brasília'); -- Distrito Federal
+insert into city(id, district_id, name) values (25, 25, 'Teresina'); -- Piauí
+insert into city(id, district_id, name) values (26, 26, 'Fortaleza'); -- Ceará
+insert into city(id, district_id, name) values (27, 27,'Vitória'); -- Espírito Santo
 
-insert into customer(name, social_security_number, city_id) values ('Manoel Campos', '33184755053', 4);
-insert into customer(name, social_security_number, city_id) values ('João Pedro', '28327907042', 1);
-insert into customer(name, social_security_number, city_id) values ('Ana Paula Maria', '02894896018', 2);
-insert into customer(name, social_security_number, city_id) values ('Maria Francisca', '63512889085', 6);
-insert into customer(name, social_security_number, city_id) values ('Pedro Miguel', '94407622091', 6);
-insert into customer(name, social_security_number, city_id) values ('Pedro Artur', '33660586099', 6);
-insert into customer(name, social_security_number, city_id) values ('Paula Gomes', '79538783050', 3);
-insert into customer(name, social_security_number, city_id) values ('Helena Silva', '32253097020', 4);
-insert into customer(name, social_security_number, city_id) values ('Marta Silva', '26341362005', 1);
+insert into customer(id, name, social_security_number, city_id) values (1, 'Manoel Campos', '33184755053', 4);
+insert into customer(id, name, social_security_number, city_id) values (2, 'João Pedro', '28327907042', 1);
+insert into customer(id, name, social_security_number, city_id) values (3, 'Ana Paula Maria', '02894896018', 2);
+insert into customer(id, name, social_security_number, city_id) values (4, 'Maria Francisca', '63512889085', 6);
+insert into customer(id, name, social_security_number, city_id) values (5, 'Pedro Miguel', '94407622091', 6);
+insert into customer(id, name, social_security_number, city_id) values (6, 'Pedro Artur', '33660586099', 6);
+insert into customer(id, name, social_security_number, city_id) values (7, 'Paula Gomes', '79538783050', 3);
+insert into customer(id, name, social_security_number, city_id) values (8, 'Helena Silva', '32253097020', 4);
+insert into customer(id, name, social_security_number, city_id) values (9, 'Marta Silva', '26341362005', 1);
 
-insert into product(description, price, amount) values ('Notebook', 5.00, 2);
-insert into product(description, price, amount) values ('TV', 1500.00, 10);
-insert into product(description, price, amount) values ('iPhone', 4000.00, 100);
-insert into product(description, price, amount) values ('Teclado', 200.00, 50);
+insert into product(id, description, price, amount) values (1, 'Notebook', 5.00, 2);
+insert into product(id, description, price, amount) values (2, 'TV', 1500.00, 10);
+insert into product(id, description, price, amount) values (3, 'iPhone', 4000.00, 100);
+insert into product(id, description, price, amount) values (4, 'Teclado', 200.00, 50);
 
 -- Out of stock Product
-insert into product(description, price, amount) values ('Mouse', 150.00, 0);
+insert into product(id, description, price, amount) values (5, 'Mouse', 150.00, 0);
 
-insert into purchase (customer_id, date_time) values (1, '2025-02-23');
-    insert into purchase_item (purchase_id, product_id, quant) values (1, 1, 2);
-    insert into purchase_item (purchase_id, product_id, quant) values (1, 3, 4);
-    insert into purchase_item (purchase_id, product_id, quant) values (1, 4, 1);
+insert into purchase(id, customer_id, date_time) values (1, 1, '2025-02-23');
+    insert into purchase_item(id, purchase_id, product_id, quant) values (1, 1, 1, 2);
+    insert into purchase_item(id, purchase_id, product_id, quant) values (2, 1, 3, 4);
+    insert into purchase_item(id, purchase_id, product_id, quant) values (3, 1, 4, 1);
 
-insert into purchase (customer_id, date_time) values (1, '2024-10-30');
-    insert into purchase_item (purchase_id, product_id, quant) values (2, 2, 2);
-    insert into purchase_item (purchase_id, product_id, quant) values (2, 5, 1);
+insert into purchase(id, customer_id, date_time) values (2, 1, '2024-10-30');
+    insert into purchase_item(id, purchase_id, product_id, quant) values (4, 2, 2, 2);
+    insert into purchase_item(id, purchase_id, product_id, quant) values (5, 2, 5, 1);
 
-insert into purchase (customer_id, date_time) values (3, '2025-01-12');
-    insert into purchase_item (purchase_id, product_id, quant) values (3, 4, 1);
+insert into purchase(id, customer_id, date_time) values (3, 3, '2025-01-12');
+    insert into purchase_item(id, purchase_id, product_id, quant) values (6, 3, 4, 1);
 
 -- Sell for a product out of stock, to simulate that a purchase was made before and now there is no stock anymore
-insert into purchase (customer_id, date_time) values (2, '2025-02-24');
-    insert into purchase_item (purchase_id, product_id, quant) values (4, 5, 4);
+insert into purchase(id, customer_id, date_time) values (4, 2, '2025-02-24');
+    insert into purchase_item(id, purchase_id, product_id, quant) values (7, 4, 5, 4);
+
+-- IDs are generated by a sequence for each table (see AbstractBaseModel.id).
+-- Since Hibernate reserves blocks of 50 IDs ending at the value got from a sequence,
+-- the sequences are restarted at a value at least 50 units greater than the IDs inserted above.
+alter sequence district_seq restart with 100;
+alter sequence city_seq restart with 100;
+alter sequence customer_seq restart with 100;
+alter sequence product_seq restart with 100;
+alter sequence purchase_seq restart with 100;
+alter sequence purchase_item_seq restart with 100;
@@ -0,0 +1,49 @@
+package sample.application.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// Stores the results of the benchmark test classes (the ones tagged as [#TAG]) as JSON files,
+/// so that the results of different commits can be compared.
+/// Such classes are slow and just measure the application,
+/// so they are only run by the `benchmark` Maven profile (see pom.xml).
+/// @author Manoel Campos
+final class BenchmarkReport {
+    /// JUnit tag of the benchmark test classes, which are excluded from the default test run.
+    static final String TAG = "benchmark";
+
+    private static final Path RESULT_DIR = Path.of("target", "benchmark");
+
+    /** Private constructor to prevent instantiating the class */
+    private BenchmarkReport() { throw new UnsupportedOperationException(); }
+
+    /// Writes the results of a benchmark to `target/benchmark/<label>-<name>.json`,
+    /// where the label is given by the `benchmark.label` system property (such as the hash of the current commit).
+    /// @param name name of the benchmark
+    /// @param parameters parameters used to run the benchmark (such as the number of operations)
+    /// @param results the results of each scenario of the benchmark
+    static void write(final String name, final Map<String, ?> parameters, final List<?> results) {
+        final var label = System.getProperty("benchmark.label", "current");
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("label", label);
+        report.put("benchmark", name);
+        report.put("parameters", parameters);
+        report.put("results", results);
+
+        final var resultFile = RESULT_DIR.resolve("%s-%s.json".formatted(label, name));
+        try {
+            Files.createDirectories(RESULT_DIR);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultFile.toFile(), report);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
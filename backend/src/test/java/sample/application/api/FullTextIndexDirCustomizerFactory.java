@@ -0,0 +1,58 @@
+package sample.application.api;
+
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.util.FileSystemUtils;
+import sample.application.api.shared.service.FullTextIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/// Makes each Spring test context use its own temporary directory for the [FullTextIndex]
+/// (the `fulltext.index-dir` property), which is deleted when the context is closed.
+/// An index directory can only be used by a single running application,
+/// but test contexts are cached and kept open while test classes using other contexts run.
+/// That is also why a JUnit `@TempDir` isn't used here: it would be deleted after the first test class using the context.
+/// The tests that start the application by themselves (such as the [PersistenceBenchmarkTest]) use a `@TempDir`.
+/// It's registered in the `META-INF/spring.factories` file.
+/// @author Manoel Campos
+class FullTextIndexDirCustomizerFactory implements ContextCustomizerFactory {
+    @Override
+    public ContextCustomizer createContextCustomizer(final Class<?> testClass, final List<ContextConfigurationAttributes> configAttributes) {
+        return new Customizer();
+    }
+
+    /// All instances are equal, so that the customizer doesn't prevent test contexts from being reused.
+    private static final class Customizer implements ContextCustomizer {
+        @Override
+        public void customizeContext(final ConfigurableApplicationContext context, final MergedContextConfiguration mergedConfig) {
+            try {
+                final var directory = Files.createTempDirectory("fulltext-index");
+                TestPropertyValues.of("fulltext.index-dir=" + directory).applyTo(context);
+
+                // Registered before any other bean, so that it's destroyed after the index is closed
+                ((DefaultSingletonBeanRegistry) context.getBeanFactory())
+                    .registerDisposableBean("fullTextIndexDirCleaner", () -> FileSystemUtils.deleteRecursively(directory));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Customizer;
+        }
+
+        @Override
+        public int hashCode() {
+            return Customizer.class.hashCode();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package sample.application.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/// Sends GET requests from concurrent clients to a running application,
+/// measuring the throughput and the latency percentiles.
+/// Each client runs in a virtual thread and sends one request after the other,
+/// until the total number of requests is sent.
+/// @author Manoel Campos
+final class LoadTester {
+    private final URI baseUri;
+
+    LoadTester(final URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    LoadTester(final int port) {
+        this(URI.create("http://localhost:" + port));
+    }
+
+    /// Sends the requests and checks that all of them succeeded.
+    /// @param label a label to identify the results
+    /// @param clients number of concurrent clients
+    /// @param requests total number of requests
+    /// @param pathByRequest a function that receives the index of a request and returns the path to request
+    /// @return the measured results
+    LoadResult run(final String label, final int clients, final int requests, final IntFunction<String> pathByRequest) {
+        final var latencies = new long[requests];
+        final var nextRequest = new AtomicInteger();
+        final long startTime = System.nanoTime();
+        assertTimeoutPreemptively(Duration.ofMinutes(2), () -> {
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor();
+                 var client = HttpClient.newBuilder().executor(executor).build())
+            {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < clients; i++) {
+                    futures.add(executor.submit(() -> {
+                        for (int req = nextRequest.getAndIncrement(); req < requests; req = nextRequest.getAndIncrement()) {
+                            final var path = pathByRequest.apply(req);
+                            final var request = HttpRequest.newBuilder(baseUri.resolve(path)).build();
+                            final long requestStart = System.nanoTime();
+                            final var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[req] = System.nanoTime() - requestStart;
+                            assertEquals(200, response.statusCode(), path);
+                        }
+
+                        return null;
+                    }));
+                }
+
+                for (final var future : futures) {
+                    future.get();
+                }
+            }
+        });
+
+        final double seconds = (System.nanoTime() - startTime) / 1e9;
+        Arrays.sort(latencies);
+        return new LoadResult(label, clients, requests / seconds, percentile(latencies, 50), percentile(latencies, 99));
+    }
+
+    /// {@return the latency (in milliseconds) of a given percentile}
+    /// @param sortedLatencies request latencies (in nanoseconds) in ascending order
+    static double percentile(final long[] sortedLatencies, final int percentile) {
+        final int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[index] / 1e6;
+    }
+
+    /// Results of a load test.
+    /// @param throughput number of requests per second
+    /// @param p50 median latency (in milliseconds)
+    /// @param p99 99th percentile latency (in milliseconds)
+    record LoadResult(String label, int clients, double throughput, double p50, double p99) {}
+}
@@ -0,0 +1,189 @@
+package sample.application.api;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.purchase.Purchase;
+import sample.application.api.feature.purchase.PurchaseItem;
+import sample.application.api.feature.purchase.PurchaseRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Benchmark that compares the JSON and CBOR formats (see [sample.application.api.config.CborConfig])
+/// for a page of purchases (with their customers and items),
+/// with and without response compression (see `server.compression` in application.properties).
+/// It measures the bytes sent on the wire by the API, and the time to serialize and parse the purchases.
+/// The results are stored by the [BenchmarkReport].
+@Tag(BenchmarkReport.TAG)
+class PayloadFormatBenchmarkTest {
+    /// Directory of the full-text index of the started application.
+    @TempDir
+    static Path fullTextIndexDir;
+
+    private static final int PURCHASES = 500;
+    private static final int ITEMS_PER_PURCHASE = 5;
+    private static final int CUSTOMERS = 9;
+    private static final int PRODUCTS = 5;
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int ITERATIONS = 100;
+
+    private static final String PATH = "/purchase?size=" + PURCHASES;
+
+    @Test
+    void compareJsonAndCbor() {
+        // Command line arguments have precedence over the application.properties file
+        final var args = new String[] {
+            "--server.port=0",
+            "--fulltext.index-dir=" + fullTextIndexDir,
+            "--spring.datasource.url=jdbc:h2:mem:payload-benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///payload-benchmark;DB_CLOSE_DELAY=-1"
+        };
+
+        try (var context = new SpringApplicationBuilder(SampleApiApplication.class).run(args)) {
+            insertPurchases(context.getBean(PurchaseRepository.class));
+            final var client = HttpClient.newHttpClient();
+            final var baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+
+            final var json = get(client, baseUri, MediaType.APPLICATION_JSON, false);
+            final var jsonGzip = get(client, baseUri, MediaType.APPLICATION_JSON, true);
+            final var cbor = get(client, baseUri, MediaType.APPLICATION_CBOR, false);
+            final var cborGzip = get(client, baseUri, MediaType.APPLICATION_CBOR, true);
+
+            assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow());
+            assertEquals("gzip", jsonGzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElseThrow());
+            assertEquals("gzip", cborGzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElseThrow());
+            assertTrue(json.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+            assertTrue(cbor.body().length < json.body().length, "CBOR response must be smaller than the JSON one");
+            assertTrue(jsonGzip.body().length < json.body().length, "Compressed response must be smaller than the uncompressed one");
+
+            final var purchases = purchases(context, json.body());
+            final var results = List.of(
+                measure("JSON", context.getBean(ObjectMapper.class), purchases, json, jsonGzip),
+                measure("CBOR", context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper(), purchases, cbor, cborGzip));
+            BenchmarkReport.write("payload-format", Map.of("path", PATH, "purchases", purchases.size(), "iterations", ITERATIONS), results);
+        }
+    }
+
+    private static void insertPurchases(final PurchaseRepository repository) {
+        final var purchases = new ArrayList<Purchase>(PURCHASES);
+        for (int i = 0; i < PURCHASES; i++) {
+            final var purchase = new Purchase(new Customer(i % CUSTOMERS + 1));
+            final int first = i;
+            purchase.setItens(IntStream.range(0, ITEMS_PER_PURCHASE)
+                                       .mapToObj(item -> new PurchaseItem((first + item) % PRODUCTS + 1, item + 1))
+                                       .collect(Collectors.toCollection(ArrayList::new)));
+            purchases.add(purchase);
+        }
+
+        repository.saveAll(purchases);
+    }
+
+    private static HttpResponse<byte[]> get(final HttpClient client, final URI baseUri, final MediaType format, final boolean gzip) {
+        final var request = HttpRequest.newBuilder(baseUri.resolve(PATH)).header(HttpHeaders.ACCEPT, format.toString());
+        if (gzip)
+            request.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        try {
+            // The HttpClient doesn't decompress the body, so its size is the number of bytes on the wire
+            final var response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, response.statusCode());
+            return response;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /// {@return the purchases in the content of a JSON page}
+    private static List<Purchase> purchases(final ConfigurableApplicationContext context, final byte[] jsonPage) {
+        final var mapper = context.getBean(ObjectMapper.class);
+        try {
+            return mapper.convertValue(mapper.readTree(jsonPage).get("content"), listType(mapper));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JavaType listType(final ObjectMapper mapper) {
+        return mapper.getTypeFactory().constructCollectionType(List.class, Purchase.class);
+    }
+
+    /// Serializes and parses the purchases many times with a given mapper, measuring the average time.
+    /// @param response response of the API in the mapper format
+    /// @param gzipResponse compressed response of the API in the mapper format
+    private static Result measure(
+        final String label, final ObjectMapper mapper, final List<Purchase> purchases,
+        final HttpResponse<byte[]> response, final HttpResponse<byte[]> gzipResponse)
+    {
+        final var type = listType(mapper);
+        try {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(purchases), type);
+            }
+
+            byte[] bytes = null;
+            long serializeTime = 0, parseTime = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                final long start = System.nanoTime();
+                bytes = mapper.writeValueAsBytes(purchases);
+                final long serialized = System.nanoTime();
+                final List<Purchase> parsed = mapper.readValue(bytes, type);
+                parseTime += System.nanoTime() - serialized;
+                serializeTime += serialized - start;
+                assertEquals(purchases.size(), parsed.size());
+            }
+
+            return new Result(
+                label, response.body().length, gzipResponse.body().length,
+                bytes.length, gzip(bytes).length, serializeTime / 1e6 / ITERATIONS, parseTime / 1e6 / ITERATIONS);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] bytes) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+
+        return out.toByteArray();
+    }
+
+    /// Results of the serialization of the purchases in a given format.
+    /// @param wireBytes size of the API response (a page of purchases)
+    /// @param wireGzipBytes size of the compressed API response
+    /// @param bytes size of the serialized purchases
+    /// @param gzipBytes size of the serialized purchases after compression
+    /// @param serializeMillis average time to serialize the purchases
+    /// @param parseMillis average time to parse the purchases
+    private record Result(
+        String label, int wireBytes, int wireGzipBytes, int bytes, int gzipBytes, double serializeMillis, double parseMillis) {}
+}
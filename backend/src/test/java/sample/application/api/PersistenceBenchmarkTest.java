@@ -0,0 +1,197 @@
+package sample.application.api;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.customer.CustomerRepository;
+import sample.application.api.feature.product.ProductService;
+import sample.application.api.feature.purchase.Purchase;
+import sample.application.api.feature.purchase.PurchaseItem;
+import sample.application.api.feature.purchase.PurchaseService;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Benchmark of the repository and service operations that access the database,
+/// measuring the throughput, the latency percentiles and the number of SQL statements per operation
+/// (given by the Hibernate [Statistics]), against an in-memory H2 database loaded with synthetic data.
+/// Cities and customers are inserted by the [SyntheticDataGenerator],
+/// while products are inserted with enough stock for all purchases.
+///
+/// The volume of data and the number of operations can be changed by the following system properties,
+/// such as `mvn -Pbenchmark test -Dtest=PersistenceBenchmarkTest -Dbenchmark.rows=10000000`:
+/// - `benchmark.rows`: number of customers inserted (cities are 1% of that);
+/// - `benchmark.operations`: number of measured operations for each scenario (after the same number of warm-up operations);
+/// - `benchmark.items`: number of items in each purchase saved.
+///
+/// The results are stored by the [BenchmarkReport], along with the number of rows in each table.
+@Tag(BenchmarkReport.TAG)
+class PersistenceBenchmarkTest {
+    /// Directory of the full-text index of the started application.
+    @TempDir
+    static Path fullTextIndexDir;
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 300);
+    private static final int ITEMS = Integer.getInteger("benchmark.items", 5);
+
+    private static final int CITIES = Math.max(ROWS / 100, 1);
+    private static final int STOCKED_PRODUCTS = 1000;
+
+    /// Number of customers whose data is used by the operations.
+    private static final int SAMPLE_CUSTOMERS = 1000;
+
+    private final Random random = new Random(42);
+    private Statistics statistics;
+    private List<SampleCustomer> customers;
+    private long firstStockedProductId;
+
+    /// Deletable products (without stock and purchases) are inserted after the stocked ones,
+    /// one for each warm-up and measured delete.
+    private long firstDeletableProductId;
+
+    @Test
+    void benchmarkPersistenceOperations() {
+        // Command line arguments have precedence over the application.properties file
+        final var args = new String[] {
+            "--server.port=0",
+            "--fulltext.index-dir=" + fullTextIndexDir,
+            "--spring.datasource.url=jdbc:h2:mem:persistence-benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///persistence-benchmark;DB_CLOSE_DELAY=-1",
+            "--synthetic-data.enabled=true",
+            "--synthetic-data.cities=" + CITIES,
+            "--synthetic-data.customers=" + ROWS,
+            "--synthetic-data.products=0",
+            "--synthetic-data.purchases=0"
+        };
+
+        final List<Result> results = new ArrayList<>();
+        try (var context = new SpringApplicationBuilder(SampleApiApplication.class).run(args)) {
+            final var jdbc = context.getBean(JdbcTemplate.class);
+            customers = sampleCustomers(jdbc);
+            insertProducts(jdbc);
+            statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+            final var customerRepository = context.getBean(CustomerRepository.class);
+            final var purchaseService = context.getBean(PurchaseService.class);
+            final var productService = context.getBean(ProductService.class);
+
+            results.add(run("CustomerRepository.findBySocialSecurityNumber", op ->
+                assertTrue(customerRepository.findBySocialSecurityNumber(randomCustomer().socialSecurityNumber()).isPresent())));
+
+            results.add(run("CustomerRepository.findByNameLike", op ->
+                assertFalse(customerRepository.findByNameLike(randomCustomer().name() + "%").isEmpty())));
+
+            results.add(run("CustomerRepository.findByCityId", op ->
+                assertFalse(customerRepository.findByCityId(randomCustomer().cityId()).isEmpty())));
+
+            results.add(run("PurchaseService.save (%d items)".formatted(ITEMS), op ->
+                purchaseService.save(newPurchase())));
+
+            results.add(run("ProductService.deleteById", op ->
+                assertTrue(productService.deleteById(firstDeletableProductId + op))));
+
+            BenchmarkReport.write("persistence", parameters(jdbc), results);
+        }
+    }
+
+    /// Runs the warm-up and then the measured operations of a scenario.
+    /// @param label a label to identify the results
+    /// @param operation the operation to run, which receives a sequential number (from the warm-up to the last measured operation)
+    /// @return the measured results
+    private Result run(final String label, final IntConsumer operation) {
+        IntStream.range(0, OPERATIONS).forEach(operation);
+
+        final var latencies = new long[OPERATIONS];
+        statistics.clear();
+        final long startTime = System.nanoTime();
+        for (int op = 0; op < OPERATIONS; op++) {
+            final long operationStart = System.nanoTime();
+            operation.accept(OPERATIONS + op);
+            latencies[op] = System.nanoTime() - operationStart;
+        }
+
+        final double seconds = (System.nanoTime() - startTime) / 1e9;
+        final double statements = statistics.getPrepareStatementCount() / (double) OPERATIONS;
+        Arrays.sort(latencies);
+        return new Result(label, OPERATIONS / seconds, LoadTester.percentile(latencies, 50), LoadTester.percentile(latencies, 99), statements);
+    }
+
+    /// {@return the data of customers evenly spread over the table, to be used by the operations}
+    private static List<SampleCustomer> sampleCustomers(final JdbcTemplate jdbc) {
+        return jdbc.query(
+            "select id, name, social_security_number, city_id from customer where mod(id, ?) = 0",
+            (rs, row) -> new SampleCustomer(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4)),
+            Math.max(ROWS / SAMPLE_CUSTOMERS, 1));
+    }
+
+    /// Inserts the products using `insert ... select` statements, which generate all the rows inside the database.
+    /// The product sequence is then restarted after the last inserted ID (see import.sql).
+    private void insertProducts(final JdbcTemplate jdbc) {
+        firstStockedProductId = jdbc.queryForObject("select max(id) from product", Long.class) + 1;
+        firstDeletableProductId = firstStockedProductId + STOCKED_PRODUCTS;
+        jdbc.update(
+            "insert into product(id, description, price, amount) select ? + x - 1, 'Product ' || x, 10.0, 1000000000 from system_range(1, ?)",
+            firstStockedProductId, STOCKED_PRODUCTS);
+
+        jdbc.update(
+            "insert into product(id, description, price, amount) select ? + x - 1, 'Deletable Product ' || x, 10.0, 0 from system_range(1, ?)",
+            firstDeletableProductId, OPERATIONS * 2);
+
+        jdbc.execute("alter sequence product_seq restart with %d".formatted(firstDeletableProductId + OPERATIONS * 2L + 100));
+    }
+
+    /// {@return the parameters of the benchmark and the number of rows in each table}
+    private static Map<String, Object> parameters(final JdbcTemplate jdbc) {
+        final var rows = new LinkedHashMap<String, Long>();
+        for (final var table : List.of("city", "customer", "product", "purchase", "purchase_item")) {
+            rows.put(table, jdbc.queryForObject("select count(*) from " + table, Long.class));
+        }
+
+        return Map.of("operations", OPERATIONS, "items", ITEMS, "rows", rows);
+    }
+
+    /// {@return a new purchase for a random customer, with items for distinct random products}
+    private Purchase newPurchase() {
+        final var purchase = new Purchase(new Customer(randomCustomer().id()));
+        final var itens = random.longs(firstStockedProductId, firstStockedProductId + STOCKED_PRODUCTS)
+                                .distinct()
+                                .limit(ITEMS)
+                                .mapToObj(productId -> new PurchaseItem(productId, 1))
+                                .toList();
+        purchase.setItens(new ArrayList<>(itens));
+        assertEquals(ITEMS, purchase.itens.size());
+        return purchase;
+    }
+
+    private SampleCustomer randomCustomer() {
+        return customers.get(random.nextInt(customers.size()));
+    }
+
+    /// Data of a customer used to build the parameters of the operations.
+    private record SampleCustomer(long id, String name, String socialSecurityNumber, long cityId) {}
+
+    /// Results of a benchmark scenario.
+    /// @param throughput number of operations per second
+    /// @param p50 median latency (in milliseconds)
+    /// @param p99 99th percentile latency (in milliseconds)
+    /// @param statements average number of SQL statements per operation
+    private record Result(String label, double throughput, double p50, double p99, double statements) {}
+}
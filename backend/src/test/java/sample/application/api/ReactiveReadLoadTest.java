@@ -0,0 +1,61 @@
+package sample.application.api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import sample.application.api.shared.controller.AbstractReactiveController;
+import sample.application.api.shared.controller.AbstractSearchController;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/// Load test that compares how the throughput and the 99th percentile (p99) latency
+/// scale with the number of concurrent connections, for the blocking
+/// [AbstractSearchController] path (`GET /city/scroll`, JPA/JDBC)
+/// and the non-blocking [AbstractReactiveController] path (`GET /reactive/city`, R2DBC).
+/// Both endpoints return all the cities.
+/// The Tomcat pool has fewer platform threads than the largest number of concurrent connections,
+/// so that blocked requests have to wait for a free thread.
+/// The results are stored by the [BenchmarkReport].
+@Tag(BenchmarkReport.TAG)
+class ReactiveReadLoadTest {
+    /// Directory of the full-text index of the started application.
+    @TempDir
+    static Path fullTextIndexDir;
+
+    private static final int[] CLIENTS = {25, 100, 400};
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 600;
+    private static final int SERVER_THREADS = 50;
+
+    private static final String BLOCKING_PATH = "/city/scroll?limit=50";
+    private static final String REACTIVE_PATH = "/reactive/city";
+
+    @Test
+    void compareConcurrentConnectionScaling() {
+        // Command line arguments have precedence over the application.properties file
+        final var args = new String[] {
+            "--server.port=0",
+            "--fulltext.index-dir=" + fullTextIndexDir,
+            "--server.tomcat.threads.max=" + SERVER_THREADS,
+            "--spring.datasource.url=jdbc:h2:mem:reactive-load-test;DB_CLOSE_DELAY=-1",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///reactive-load-test;DB_CLOSE_DELAY=-1"
+        };
+
+        final List<LoadTester.LoadResult> results = new ArrayList<>();
+        try (var context = new SpringApplicationBuilder(SampleApiApplication.class).run(args)) {
+            final var tester = new LoadTester(((WebServerApplicationContext) context).getWebServer().getPort());
+            tester.run("warm-up", SERVER_THREADS, WARMUP_REQUESTS, req -> req % 2 == 0 ? BLOCKING_PATH : REACTIVE_PATH);
+            for (final int clients : CLIENTS) {
+                results.add(tester.run("blocking (JPA)", clients, REQUESTS, req -> BLOCKING_PATH));
+                results.add(tester.run("reactive (R2DBC)", clients, REQUESTS, req -> REACTIVE_PATH));
+            }
+        }
+
+        BenchmarkReport.write("reactive-read", Map.of("requests", REQUESTS, "serverThreads", SERVER_THREADS), results);
+    }
+}
@@ -0,0 +1,139 @@
+package sample.application.api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.product.Product;
+import sample.application.api.feature.product.ProductRepository;
+import sample.application.api.feature.product.StripedStockService;
+import sample.application.api.feature.purchase.Purchase;
+import sample.application.api.feature.purchase.PurchaseItem;
+import sample.application.api.feature.purchase.PurchaseService;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// Benchmark that compares the throughput and the latency percentiles of concurrent purchases of the same product
+/// when its stock is kept in a single row (1 stripe) and when it's split into N stripes (see [StripedStockService]).
+/// Both scenarios run the same number of purchases from the same number of threads, against the same product,
+/// so that the only difference is the number of row locks the purchases compete for.
+/// The product has enough stock for all purchases, so that every one decreases the stock.
+///
+/// The contention can be changed by the following system properties,
+/// such as `mvn -Pbenchmark test -Dtest=StripedStockBenchmarkTest -Dbenchmark.threads=64`:
+/// - `benchmark.threads`: number of threads making purchases at the same time;
+/// - `benchmark.operations`: number of measured purchases for each scenario (after the same number of warm-up purchases);
+/// - `benchmark.stripes`: number of stripes of the striped scenario.
+///
+/// The results are stored by the [BenchmarkReport].
+@Tag(BenchmarkReport.TAG)
+class StripedStockBenchmarkTest {
+    /// Directory of the full-text index of the started application.
+    @TempDir
+    static Path fullTextIndexDir;
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 2000);
+    private static final int STRIPES = Integer.getInteger("benchmark.stripes", 16);
+
+    private PurchaseService purchaseService;
+    private StripedStockService stripedStockService;
+    private ProductRepository productRepository;
+
+    @Test
+    void compareSingleRowAndStripedStock() {
+        // Command line arguments have precedence over the application.properties file
+        final var args = new String[] {
+            "--server.port=0",
+            "--fulltext.index-dir=" + fullTextIndexDir,
+            "--spring.datasource.url=jdbc:h2:mem:striped-stock-benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///striped-stock-benchmark;DB_CLOSE_DELAY=-1"
+        };
+
+        try (var context = new SpringApplicationBuilder(SampleApiApplication.class).run(args)) {
+            purchaseService = context.getBean(PurchaseService.class);
+            stripedStockService = context.getBean(StripedStockService.class);
+            productRepository = context.getBean(ProductRepository.class);
+
+            final var results = List.of(run(1), run(STRIPES));
+            BenchmarkReport.write("striped-stock", Map.of("threads", THREADS, "operations", OPERATIONS), results);
+        }
+    }
+
+    /// Runs the warm-up and then the measured purchases of a product whose stock is split into a given number of stripes.
+    /// @param stripes number of stripes (1 means no striped inventory)
+    /// @return the measured results
+    private Result run(final int stripes) {
+        final var product = newProduct(stripes);
+        buy(product, OPERATIONS);
+
+        final long startTime = System.nanoTime();
+        final long[] latencies = buy(product, OPERATIONS);
+        final double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        stripedStockService.reconcile();
+        assertEquals(0, productRepository.findById(product.id).orElseThrow().amount);
+        Arrays.sort(latencies);
+        return new Result(stripes, OPERATIONS / seconds, LoadTester.percentile(latencies, 50), LoadTester.percentile(latencies, 99));
+    }
+
+    /// {@return a new product having stock for all the warm-up and measured purchases}
+    /// @param stripes number of stripes to split the stock into
+    private Product newProduct(final int stripes) {
+        final var product = new Product();
+        product.description = "Striped Stock Benchmark Product " + stripes;
+        product.price = 10;
+        product.amount = OPERATIONS * 2;
+        productRepository.save(product);
+        stripedStockService.stripe(product.id, stripes);
+        return product;
+    }
+
+    /// Makes concurrent purchases of a single unit of a product, each one in its own transaction.
+    /// @param product the product to buy
+    /// @param purchases number of purchases to make
+    /// @return the latency of each purchase (in nanoseconds)
+    private long[] buy(final Product product, final int purchases) {
+        final var latencies = new long[purchases];
+        final var start = new CountDownLatch(1);
+        final var futures = new ArrayList<Future<?>>(purchases);
+        try (var executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < purchases; i++) {
+                final int op = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final var purchase = new Purchase(new Customer(1));
+                    purchase.setItens(List.of(new PurchaseItem(product.id, 1)));
+                    final long operationStart = System.nanoTime();
+                    purchaseService.save(purchase);
+                    latencies[op] = System.nanoTime() - operationStart;
+                    return null;
+                }));
+            }
+
+            start.countDown();
+        }
+
+        // Fails if some purchase failed
+        futures.forEach(future -> assertDoesNotThrow(() -> future.get()));
+        return latencies;
+    }
+
+    /// Results of a benchmark scenario.
+    /// @param stripes number of stripes the stock was split into
+    /// @param throughput number of purchases per second
+    /// @param p50 median latency (in milliseconds)
+    /// @param p99 99th percentile latency (in milliseconds)
+    private record Result(int stripes, double throughput, double p50, double p99) {}
+}
@@ -0,0 +1,139 @@
+package sample.application.api;
+
+import jakarta.validation.Validator;
+import org.hibernate.validator.constraints.br.CPF;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Checks the data inserted by the [SyntheticDataGenerator] when the application starts.
+/// It uses a separate in-memory database, so that the data doesn't affect other tests.
+@SpringBootTest(properties = {
+    "synthetic-data.enabled=true",
+    "synthetic-data.districts=3",
+    "synthetic-data.cities=50",
+    "synthetic-data.customers=2000",
+    "synthetic-data.products=200",
+    "synthetic-data.purchases=3000",
+    "synthetic-data.purchase-days=30",
+    "synthetic-data.last-purchase-date=2025-06-30",
+    "spring.datasource.url=jdbc:h2:mem:synthetic-data-test;DB_CLOSE_DELAY=-1",
+    "spring.r2dbc.url=r2dbc:h2:mem:///synthetic-data-test;DB_CLOSE_DELAY=-1"
+})
+class SyntheticDataGeneratorTest {
+    /// Number of rows inserted by the import.sql file.
+    private static final int IMPORTED_DISTRICTS = 27;
+    private static final int IMPORTED_CITIES = 27;
+    private static final int IMPORTED_CUSTOMERS = 9;
+    private static final int IMPORTED_PRODUCTS = 5;
+    private static final int IMPORTED_PURCHASES = 4;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private Validator validator;
+
+    @Test
+    void insertsRowsIntoAllTables() {
+        assertEquals(IMPORTED_DISTRICTS + 3, count("district"));
+        assertEquals(IMPORTED_CITIES + 50, count("city"));
+        assertEquals(IMPORTED_CUSTOMERS + 2000, count("customer"));
+        assertEquals(IMPORTED_PRODUCTS + 200, count("product"));
+        assertEquals(IMPORTED_PURCHASES + 3000, count("purchase"));
+        assertTrue(count("purchase_item") >= IMPORTED_PURCHASES + 3000);
+    }
+
+    @Test
+    void customersHaveValidAndUniqueCpfs() {
+        final var cpfs = jdbc.queryForList("select social_security_number from customer", String.class);
+        assertEquals(cpfs.size(), cpfs.stream().distinct().count());
+        cpfs.forEach(cpf -> assertTrue(validator.validateValue(Cpf.class, "number", cpf).isEmpty(), cpf));
+    }
+
+    @Test
+    void productSalesAreSkewed() {
+        final List<Integer> itemsByProduct = jdbc.queryForList(
+            "select count(*) from purchase_item group by product_id order by count(*) desc", Integer.class);
+        final int median = itemsByProduct.get(itemsByProduct.size() / 2);
+        assertTrue(itemsByProduct.getFirst() > 10 * median, () -> "Items of the best-seller product: %d, median: %d".formatted(itemsByProduct.getFirst(), median));
+    }
+
+    @Test
+    void purchasesAreSpreadOverThePeriodInIdOrder() {
+        final String synthetic = "from purchase where date_time >= '2025-06-01'";
+        assertEquals(3000, jdbc.queryForObject("select count(*) " + synthetic, Integer.class));
+        assertTrue(jdbc.queryForObject("select max(date_time) " + synthetic, LocalDateTime.class).isBefore(LocalDateTime.of(2025, 7, 1, 0, 0)));
+        assertTrue(jdbc.queryForObject("select min(date_time) " + synthetic, LocalDateTime.class).isBefore(LocalDateTime.of(2025, 6, 2, 0, 0)));
+
+        final String outOfOrder = "select count(*) from purchase p1 join purchase p2 on p2.id = p1.id + 1 where p2.date_time < p1.date_time";
+        assertEquals(0, jdbc.queryForObject(outOfOrder + " and p1.date_time >= '2025-06-01'", Integer.class));
+    }
+
+    /// Checks that the synthetic rows were indexed to be searched when the application started.
+    @Test
+    void rowsAreIndexed() {
+        assertEquals(0, jdbc.queryForObject("select count(*) from customer where search_text is null", Integer.class));
+        assertEquals(0, jdbc.queryForObject("select count(*) from product where search_text is null", Integer.class));
+    }
+
+    /// Checks that the same seed generates the same rows, by starting two applications that generate
+    /// data into two fresh in-memory databases and comparing a checksum of the generated rows.
+    @Test
+    void sameSeedGeneratesSameRows(@TempDir final Path fullTextIndexDir) {
+        assertEquals(generatedRowsChecksum("synthetic-data-seed-1", fullTextIndexDir), generatedRowsChecksum("synthetic-data-seed-2", fullTextIndexDir));
+    }
+
+    /// {@return a checksum of the columns filled by the generator, for all rows of the tables it inserts into}
+    /// It starts an application that generates data with a fixed seed into a new in-memory database.
+    /// @param database name of the in-memory database
+    /// @param fullTextIndexDir parent directory of the full-text index of the started application
+    private static int generatedRowsChecksum(final String database, final Path fullTextIndexDir) {
+        // Command line arguments have precedence over the application.properties file
+        final var args = new String[] {
+            "--server.port=0",
+            "--fulltext.index-dir=" + fullTextIndexDir.resolve(database),
+            "--spring.datasource.url=jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1".formatted(database),
+            "--spring.r2dbc.url=r2dbc:h2:mem:///%s;DB_CLOSE_DELAY=-1".formatted(database),
+            "--synthetic-data.enabled=true",
+            "--synthetic-data.seed=7",
+            "--synthetic-data.districts=2",
+            "--synthetic-data.cities=20",
+            "--synthetic-data.customers=200",
+            "--synthetic-data.products=50",
+            "--synthetic-data.purchases=300",
+            "--synthetic-data.last-purchase-date=2025-06-30"
+        };
+
+        final var queries = List.of(
+            "select id, name, abbreviation from district order by id",
+            "select id, name, district_id from city order by id",
+            "select id, name, social_security_number, city_id from customer order by id",
+            "select id, description, price, amount from product order by id",
+            "select id, customer_id, date_time from purchase order by id",
+            "select id, purchase_id, product_id, quant from purchase_item order by id");
+
+        try (var context = new SpringApplicationBuilder(SampleApiApplication.class).run(args)) {
+            final var jdbc = context.getBean(JdbcTemplate.class);
+            final List<List<Map<String, Object>>> rows = queries.stream().map(jdbc::queryForList).toList();
+            return rows.hashCode();
+        }
+    }
+
+    private int count(final String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private record Cpf(@CPF String number) {}
+}
@@ -0,0 +1,72 @@
+package sample.application.api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.application.api.config.VirtualThreadPinningMonitor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/// Load test that compares the throughput and the 99th percentile (p99) latency of the API
+/// when requests are handled by platform threads (from the Tomcat pool) and by virtual threads.
+/// The application is started once for each mode (with its own in-memory database)
+/// and receives more concurrent requests than the number of platform threads in the Tomcat pool.
+/// The results are stored by the [BenchmarkReport], along with the number of times a virtual thread
+/// pinned its carrier thread (see [VirtualThreadPinningMonitor]).
+@Tag(BenchmarkReport.TAG)
+class VirtualThreadsLoadTest {
+    /// Directory of the full-text index of the started application.
+    @TempDir
+    static Path fullTextIndexDir;
+
+    private static final int CLIENTS = 200;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 2000;
+
+    /// Number of platform threads in the Tomcat pool, smaller than the number of concurrent clients.
+    private static final int SERVER_THREADS = 50;
+
+    @Test
+    void compareThroughputAndLatency() {
+        final var results = List.of(run(false), run(true));
+        BenchmarkReport.write("virtual-threads", Map.of("clients", CLIENTS, "requests", REQUESTS, "serverThreads", SERVER_THREADS), results);
+    }
+
+    private static Result run(final boolean virtualThreads) {
+        final String mode = virtualThreads ? "virtual" : "platform";
+        try (var context = start(mode, virtualThreads)) {
+            final var tester = new LoadTester(((WebServerApplicationContext) context).getWebServer().getPort());
+            tester.run(mode, CLIENTS, WARMUP_REQUESTS, VirtualThreadsLoadTest::path);
+            final var result = tester.run(mode, CLIENTS, REQUESTS, VirtualThreadsLoadTest::path);
+            final long pinned = context.getBean(VirtualThreadPinningMonitor.class).getPinnedCount();
+            return new Result(result, pinned);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(final String mode, final boolean virtualThreads) {
+        // Command line arguments have precedence over the application.properties file
+        return new SpringApplicationBuilder(SampleApiApplication.class)
+                    .run(
+                        "--server.port=0",
+                        "--fulltext.index-dir=" + fullTextIndexDir,
+                        "--server.tomcat.threads.max=" + SERVER_THREADS,
+                        "--spring.datasource.url=jdbc:h2:mem:load-test-" + mode,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--threads.pinning-detection.enabled=true");
+    }
+
+    /// Alternates between a page of purchases (which loads the purchases with their customers,
+    /// items and products) and a single customer.
+    private static String path(final int request) {
+        return request % 2 == 0 ? "/purchase?size=20" : "/customer/" + (request % 9 + 1);
+    }
+
+    /// Results of the load test in a given mode.
+    /// @param pinned number of times a virtual thread pinned its carrier thread
+    private record Result(LoadTester.LoadResult load, long pinned) {}
+}
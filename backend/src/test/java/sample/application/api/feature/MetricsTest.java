@@ -0,0 +1,64 @@
+package sample.application.api.feature;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import sample.application.api.config.MetricsConfig;
+import sample.application.api.controller.AbstractControllerTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Checks that the request, repository, Hibernate and connection pool metrics
+/// are published at `/actuator/prometheus`, with the tags added by the [MetricsConfig].
+/// The [AutoConfigureObservability] is required since metrics exporters are disabled by default in tests.
+/// @author Manoel Campos
+@AutoConfigureObservability
+class MetricsTest extends AbstractControllerTest {
+    private String metrics;
+
+    @BeforeEach
+    void setUp() {
+        client().get().uri("/customer/{id}", 1).exchange().expectStatus().isOk();
+        client().get().uri("/customer/social-security/{number}", "33184755053").exchange().expectStatus().isOk();
+        client().get().uri("/customer/{id}", 999999).exchange().expectStatus().isNotFound();
+
+        metrics = client().get().uri("/actuator/prometheus")
+                          .exchange()
+                          .expectStatus().isOk()
+                          .expectBody(String.class)
+                          .returnResult().getResponseBody();
+        assertNotNull(metrics);
+    }
+
+    @Test
+    void requestMetricsTaggedByEntityAndOperation() {
+        assertMetric("http_server_requests_seconds_count", "entity=\"Customer\"", "operation=\"findById\"", "outcome=\"SUCCESS\"");
+        assertMetric("http_server_requests_seconds_count", "entity=\"Customer\"", "operation=\"findById\"", "outcome=\"CLIENT_ERROR\"");
+        assertMetric("http_server_requests_seconds_count", "entity=\"Customer\"", "operation=\"findBySocialSecurityNumber\"");
+    }
+
+    @Test
+    void repositoryMetricsTaggedByEntity() {
+        assertMetric("spring_data_repository_invocations_seconds_count", "entity=\"Customer\"", "method=\"findBySocialSecurityNumber\"", "state=\"SUCCESS\"");
+        assertMetric("spring_data_repository_invocations_seconds_count", "entity=\"Customer\"", "method=\"findById\"");
+    }
+
+    @Test
+    void hibernateAndConnectionPoolMetrics() {
+        for (final var name : List.of(
+            "hibernate_query_executions_total", "hibernate_entities_loads_total", "hibernate_flushes_total",
+            "hibernate_second_level_cache_requests_total", "hikaricp_connections_active"))
+        {
+            assertMetric(name);
+        }
+    }
+
+    /// Checks there is a line for a given metric containing all the given tags.
+    private void assertMetric(final String name, final String... tags) {
+        final boolean found = metrics.lines().anyMatch(line -> line.startsWith(name + "{") && List.of(tags).stream().allMatch(line::contains));
+        assertTrue(found, "Metric %s with tags %s not found".formatted(name, List.of(tags)));
+    }
+}
@@ -0,0 +1,104 @@
+package sample.application.api.feature;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import sample.application.api.feature.city.CityRepository;
+import sample.application.api.feature.city.CityService;
+import sample.application.api.feature.district.DistrictRepository;
+import sample.application.api.feature.district.DistrictService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Checks that districts and cities are kept in the Hibernate second-level cache
+/// and that cached data is updated when such entities are changed.
+/// Each service/repository call runs in its own transaction, so the [SpringBootTest] is used
+/// instead of a rolled back `DataJpaTest`.
+@SpringBootTest
+class SecondLevelCacheTest {
+    @Autowired
+    private DistrictService districtService;
+
+    @Autowired
+    private DistrictRepository districtRepository;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp(@Autowired final EntityManagerFactory emf) {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findDistrictByIdHitsCache() {
+        districtService.findById(2);
+        districtService.findById(2);
+
+        assertTrue(statistics.getDomainDataRegionStatistics("district").getHitCount() >= 1);
+        final double hits = meterRegistry.get("hibernate.second.level.cache.requests")
+                                         .tags("region", "district", "result", "hit")
+                                         .functionCounter()
+                                         .count();
+        assertTrue(hits >= 1);
+    }
+
+    @Test
+    void saveDistrictUpdatesCache() {
+        final var district = districtService.findById(3).orElseThrow();
+        final String originalName = district.name;
+        assertEquals(1, districtRepository.findByNameLike(originalName).size());
+        assertEquals(1, districtRepository.findByNameLike(originalName).size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        try {
+            district.name = "Updated District";
+            districtService.save(district);
+
+            assertEquals("Updated District", districtService.findById(3).orElseThrow().name);
+            assertTrue(districtRepository.findByNameLike(originalName).isEmpty());
+            assertEquals(1, districtRepository.findByNameLike("Updated District").size());
+        } finally {
+            // The updated district is got again, since saving the old version would fail due to optimistic locking
+            final var updated = districtService.findById(3).orElseThrow();
+            updated.name = originalName;
+            districtService.save(updated);
+        }
+    }
+
+    @Test
+    void saveCityUpdatesCache() {
+        final var city = cityService.findById(5).orElseThrow();
+        final String originalName = city.name;
+        assertEquals(1, cityRepository.findByNameLike(originalName).size());
+
+        try {
+            city.name = "Updated City";
+            cityService.save(city);
+
+            assertEquals("Updated City", cityService.findById(5).orElseThrow().name);
+            assertTrue(cityRepository.findByNameLike(originalName).isEmpty());
+            assertEquals(1, cityRepository.findByNameLike("Updated City").size());
+        } finally {
+            // The updated city is got again, since saving the old version would fail due to optimistic locking
+            final var updated = cityService.findById(5).orElseThrow();
+            updated.name = originalName;
+            cityService.save(updated);
+        }
+    }
+}
@@ -2,9 +2,28 @@ package sample.application.api.feature.city;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.Preconditions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import sample.application.api.controller.AbstractControllerTest;
+import sample.application.api.shared.controller.BulkReport;
+import sample.application.api.shared.service.AutocompleteIndex;
 import sample.application.api.shared.util.PathUtil;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * Tests for the REST API of {@link City} implemented by {@link CityController}.
  * @author Manoel Campos
@@ -12,6 +31,13 @@ import sample.application.api.shared.util.PathUtil;
 class CityControllerTest extends AbstractControllerTest {
     private static final String RELATIVE_URL = "/city";
     private static final String BY_ID_URL = PathUtil.concat(RELATIVE_URL, "/{id}");
+    private static final String BULK_URL = PathUtil.concat(RELATIVE_URL, "/bulk");
+    private static final String SEARCH_URL = PathUtil.concat(RELATIVE_URL, "/search");
+    private static final String AUTOCOMPLETE_URL = PathUtil.concat(RELATIVE_URL, "/autocomplete");
+    private static final long NON_EXISTING_ID = 999_999;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
 
     @Test
     void findById() {
@@ -25,6 +51,298 @@ class CityControllerTest extends AbstractControllerTest {
                 .isEqualTo(city);
     }
 
+    @Test
+    void findByIdAsCbor() throws IOException {
+        final long id = 1;
+        final byte[] body = client().get()
+                                    .uri(BY_ID_URL, id)
+                                    .accept(MediaType.APPLICATION_CBOR)
+                                    .exchange()
+                                    .expectStatus().isOk()
+                                    .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                                    .expectBody(byte[].class)
+                                    .returnResult()
+                                    .getResponseBody();
+
+        assertEquals(new City(id, "City 1"), cborConverter.getObjectMapper().readValue(body, City.class));
+    }
+
+    @Test
+    void findAllAsCborSmallerThanJson() {
+        final var pageUrl = RELATIVE_URL + "?size=50";
+        final byte[] json = findAll(pageUrl, MediaType.APPLICATION_JSON);
+        final byte[] cbor = findAll(pageUrl, MediaType.APPLICATION_CBOR);
+        assertTrue(cbor.length < json.length, "CBOR response (%d bytes) must be smaller than the JSON one (%d bytes)".formatted(cbor.length, json.length));
+    }
+
+    /// {@return the body of a GET request in a given format}
+    private byte[] findAll(final String uri, final MediaType format) {
+        final byte[] body = client().get()
+                                    .uri(uri)
+                                    .accept(format)
+                                    .exchange()
+                                    .expectStatus().isOk()
+                                    .expectHeader().contentType(format)
+                                    .expectBody(byte[].class)
+                                    .returnResult()
+                                    .getResponseBody();
+
+        assertNotNull(body);
+        return body;
+    }
+
+    @Test
+    void findByIdNotModified() {
+        final String etag = etag(BY_ID_URL, 1);
+        client().get()
+                .uri(BY_ID_URL, 1)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+
+        client().get()
+                .uri(PathUtil.concat(RELATIVE_URL, "/dto/{id}"), 1)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void findAllNotModified() {
+        final var pageUrl = RELATIVE_URL + "?size=5";
+        final String etag = etag(pageUrl);
+        client().get()
+                .uri(pageUrl)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // Another page has other entities, so it has another ETag
+        client().get()
+                .uri(RELATIVE_URL + "?size=5&page=1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void updateIfMatch() {
+        final long id = insert(new CityDTO(null, "ETag Test City", 1L));
+        final String etag = etag(BY_ID_URL, id);
+
+        final String newEtag = client().put()
+                                       .uri(BY_ID_URL, id)
+                                       .header(HttpHeaders.IF_MATCH, etag)
+                                       .bodyValue(new CityDTO(id, "ETag Test City Updated", 1L))
+                                       .exchange()
+                                       .expectStatus().isOk()
+                                       .returnResult(Void.class)
+                                       .getResponseHeaders()
+                                       .getETag();
+        assertNotEquals(etag, newEtag);
+
+        // The city was changed, so the old ETag neither matches for an update nor for a conditional get
+        client().put()
+                .uri(BY_ID_URL, id)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(new CityDTO(id, "ETag Test City Lost Update", 1L))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        client().get()
+                .uri(BY_ID_URL, id)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, newEtag)
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("ETag Test City Updated");
+
+        delete(id);
+    }
+
+    @Test
+    void updateIfMatchWeakETag() {
+        final long id = insert(new CityDTO(null, "Weak ETag Test City", 1L));
+        final String etag = etag(BY_ID_URL, id);
+        assertFalse(etag.startsWith("W/"), "The ETag of an entity must be strong");
+        assertTrue(etag(RELATIVE_URL + "?size=5").startsWith("W/"), "The ETag of a page must be weak");
+
+        // If-Match requires the strong comparison, so a weak ETag never matches
+        client().put()
+                .uri(BY_ID_URL, id)
+                .header(HttpHeaders.IF_MATCH, "W/" + etag)
+                .bodyValue(new CityDTO(id, "Weak ETag Test City Updated", 1L))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        delete(id);
+    }
+
+    /// {@return the ETag returned by a GET request}
+    private String etag(final String uri, final Object... uriVariables) {
+        final String etag = client().get()
+                                    .uri(uri, uriVariables)
+                                    .exchange()
+                                    .expectStatus().isOk()
+                                    .returnResult(String.class)
+                                    .getResponseHeaders()
+                                    .getETag();
+
+        assertNotNull(etag);
+        return etag;
+    }
+
+    @Test
+    void findAllPaged() {
+        final int size = 10;
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(RELATIVE_URL).queryParam("page", 1).queryParam("size", size).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(size)
+                .jsonPath("$.page.number").isEqualTo(1)
+                .jsonPath("$.page.size").isEqualTo(size)
+                .jsonPath("$.page.totalElements").value(Integer.class, total -> assertTrue(total >= 27));
+    }
+
+    @Test
+    void findAllLimitsPageSize() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(RELATIVE_URL).queryParam("size", 1_000_000).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.page.size").isEqualTo(1000);
+    }
+
+    @Test
+    void findAllSortedByUnknownField() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(RELATIVE_URL).queryParam("sort", "unknownField").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void searchByPrefixIgnoringAccents() {
+        assertEquals(List.of("São Luís", "São Paulo"), search("SAO", true));
+    }
+
+    @Test
+    void searchContainingText() {
+        assertEquals(List.of("Porto Alegre"), search("alegre", false));
+        assertEquals(List.of("Porto Alegre"), search("to al", false));
+        assertEquals(List.of(), search("alegre", true));
+    }
+
+    @Test
+    void searchIndexesChangedCity() {
+        final long id = insert(new CityDTO(null, "Searchable Test City", 1L));
+        assertEquals(List.of("Searchable Test City"), search("able test", false));
+
+        delete(id);
+        assertEquals(List.of(), search("able test", false));
+    }
+
+    @Test
+    void autocomplete() {
+        assertEquals(List.of("São Luís", "São Paulo"), autocomplete("sÃo ", 10));
+        assertEquals(List.of("São Luís"), autocomplete("sao", 1));
+        assertEquals(List.of(), autocomplete("paulo", 10));
+    }
+
+    @Test
+    void autocompleteIndexesChangedCity() {
+        final long id = insert(new CityDTO(null, "Autocomplete Test City", 1L));
+        assertEquals(List.of("Autocomplete Test City"), autocomplete("autocomplete test", 10));
+
+        delete(id);
+        assertEquals(List.of(), autocomplete("autocomplete test", 10));
+    }
+
+    /// Gets the cities suggested for a prefix and returns their names.
+    private List<String> autocomplete(final String prefix, final int limit) {
+        final var suggestions = client().get()
+                                        .uri(uriBuilder -> uriBuilder.path(AUTOCOMPLETE_URL).queryParam("q", prefix).queryParam("limit", limit).build())
+                                        .exchange()
+                                        .expectStatus().isOk()
+                                        .expectBodyList(AutocompleteIndex.Suggestion.class)
+                                        .returnResult()
+                                        .getResponseBody();
+
+        assertNotNull(suggestions);
+        return suggestions.stream().map(AutocompleteIndex.Suggestion::text).toList();
+    }
+
+    /// Searches cities by a text and returns the names of the cities found.
+    private List<String> search(final String text, final boolean prefix) {
+        final var page = client().get()
+                                 .uri(uriBuilder -> uriBuilder.path(SEARCH_URL).queryParam("q", text).queryParam("prefix", prefix).build())
+                                 .exchange()
+                                 .expectStatus().isOk()
+                                 .expectBody(CityPage.class)
+                                 .returnResult()
+                                 .getResponseBody();
+
+        assertNotNull(page);
+        return page.content().stream().map(City::getName).toList();
+    }
+
+    private record CityPage(List<City> content) {}
+
+    @Test
+    void bulkInsertUpdateDelete() {
+        final var inserted = bulk(client().post(), List.of(
+            new CityDTO(null, "Bulk City 1", 1L),
+            new CityDTO(null, "Palmas", 12L), // duplicated name
+            new CityDTO(null, "Bulk City 2", null), // district not informed
+            new CityDTO(null, "Bulk City 3", 2L)));
+
+        assertEquals(2, inserted.succeeded());
+        assertEquals(2, inserted.failed());
+        assertEquals(List.of(201, 409, 409, 201), statuses(inserted));
+        assertTrue(Objects.requireNonNull(inserted.items().get(1).message()).toLowerCase().contains("name"));
+        final long id1 = Objects.requireNonNull(inserted.items().get(0).id());
+        final long id3 = Objects.requireNonNull(inserted.items().get(3).id());
+
+        final var updated = bulk(client().put(), List.of(
+            new CityDTO(id1, "Bulk City 1 Updated", 1L),
+            new CityDTO(NON_EXISTING_ID, "Non-existing City", 1L)));
+        assertEquals(List.of(200, 404), statuses(updated));
+        client().get()
+                .uri(BY_ID_URL, id1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Bulk City 1 Updated");
+
+        final var deleted = bulk(client().method(HttpMethod.DELETE), List.of(id1, id3, NON_EXISTING_ID));
+        assertEquals(List.of(204, 204, 404), statuses(deleted));
+        client().get().uri(BY_ID_URL, id1).exchange().expectStatus().isNotFound();
+    }
+
+    private BulkReport bulk(final WebTestClient.RequestBodyUriSpec request, final List<?> items) {
+        final var report = request.uri(BULK_URL)
+                                  .bodyValue(items)
+                                  .exchange()
+                                  .expectStatus().isOk()
+                                  .expectBody(BulkReport.class)
+                                  .returnResult()
+                                  .getResponseBody();
+
+        assertNotNull(report);
+        assertEquals(items.size(), report.items().size());
+        return report;
+    }
+
+    private static List<Integer> statuses(final BulkReport report) {
+        return report.items().stream().map(BulkReport.Item::status).toList();
+    }
+
     /**
      * Inserts a new City into the database and returns the inserted City.
      * @param cityToInsert City to be inserted
@@ -44,6 +362,20 @@ class CityControllerTest extends AbstractControllerTest {
                        .getResponseBody();
     }
 
+    /// Inserts a new City into the database and returns its generated id.
+    private long insert(final CityDTO cityToInsert) {
+        final var city = client().post()
+                                 .uri(RELATIVE_URL)
+                                 .bodyValue(cityToInsert)
+                                 .exchange()
+                                 .expectStatus().isCreated()
+                                 .expectBody(City.class)
+                                 .returnResult()
+                                 .getResponseBody();
+
+        return Objects.requireNonNull(Objects.requireNonNull(city).getId());
+    }
+
     private void delete(final long id) {
         client().delete()
                 .uri(BY_ID_URL, id)
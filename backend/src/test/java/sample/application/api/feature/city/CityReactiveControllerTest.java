@@ -0,0 +1,79 @@
+package sample.application.api.feature.city;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import sample.application.api.controller.AbstractControllerTest;
+import sample.application.api.shared.util.PathUtil;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the reactive read API of {@link City} implemented by {@link CityReactiveController}.
+ * @author Manoel Campos
+ */
+class CityReactiveControllerTest extends AbstractControllerTest {
+    private static final String RELATIVE_URL = "/reactive/city";
+    private static final String BY_ID_URL = PathUtil.concat(RELATIVE_URL, "/{id}");
+    private static final String SEARCH_URL = PathUtil.concat(RELATIVE_URL, "/search");
+
+    @Test
+    void findById() {
+        client().get()
+                .uri(BY_ID_URL, 2)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CityView.class)
+                .isEqualTo(new CityView(2, "Curitiba", 2));
+    }
+
+    @Test
+    void findByIdNotFound() {
+        client().get()
+                .uri(BY_ID_URL, 999_999)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void findAllAsJsonArray() {
+        client().get()
+                .uri(RELATIVE_URL)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").value(Integer.class, total -> assertTrue(total >= 27))
+                .jsonPath("$[0].name").isEqualTo("São Paulo");
+    }
+
+    @Test
+    void searchStreamed() {
+        final var cities = client().get()
+                                   .uri(uriBuilder -> uriBuilder.path(SEARCH_URL).queryParam("q", "São").build())
+                                   .accept(MediaType.APPLICATION_NDJSON)
+                                   .exchange()
+                                   .expectStatus().isOk()
+                                   .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                                   .returnResult(CityView.class)
+                                   .getResponseBody()
+                                   .map(CityView::name)
+                                   .collectList()
+                                   .block();
+
+        assertEquals(List.of("São Paulo", "São Luís"), cities);
+    }
+
+    @Test
+    void searchEscapesWildcards() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(SEARCH_URL).queryParam("q", "%").build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+}
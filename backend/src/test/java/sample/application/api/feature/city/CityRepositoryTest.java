@@ -55,6 +55,6 @@ class CityRepositoryTest extends AbstractRepositoryTest {
     @Test
     void inserirDescricaoDuplicadaGeraExcecao() {
         final var city = new City(instance.name, new District(1));
-        assertThrows(DataIntegrityViolationException.class, () -> repository.save(city));
+        assertThrows(DataIntegrityViolationException.class, () -> repository.saveAndFlush(city));
     }
 }
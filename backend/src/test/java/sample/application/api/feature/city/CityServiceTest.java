@@ -6,6 +6,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sample.application.api.shared.service.SearchIndexService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -15,6 +16,9 @@ class CityServiceTest {
     @Mock
     private CityRepository repository;
 
+    @Mock
+    private SearchIndexService searchIndex;
+
     @InjectMocks
     private CityService service;
 
@@ -0,0 +1,275 @@
+package sample.application.api.feature.customer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import sample.application.api.controller.AbstractControllerTest;
+import sample.application.api.feature.city.CityDTO;
+import sample.application.api.shared.util.PathUtil;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the full-text search of {@link Customer} implemented by {@link CustomerController}.
+ * @author Manoel Campos
+ */
+class CustomerControllerTest extends AbstractControllerTest {
+    private static final String RELATIVE_URL = "/customer";
+    private static final String BY_ID_URL = PathUtil.concat(RELATIVE_URL, "/{id}");
+    private static final String FULLTEXT_URL = PathUtil.concat(RELATIVE_URL, "/fulltext");
+    private static final String SEARCH_URL = PathUtil.concat(RELATIVE_URL, "/search");
+    private static final String SCROLL_URL = PathUtil.concat(RELATIVE_URL, "/scroll");
+    private static final String CITY_BY_ID_URL = "/city/{id}";
+
+    @Test
+    void findAllSelectedFields() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(RELATIVE_URL).queryParam("fields", "name,city.name").queryParam("size", 2).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].id").isEqualTo(1)
+                .jsonPath("$.content[0].name").isEqualTo("Manoel Campos")
+                .jsonPath("$.content[0].city.name").isEqualTo("Porto Alegre")
+                .jsonPath("$.content[0].socialSecurityNumber").doesNotExist()
+                .jsonPath("$.content[0].city.id").doesNotExist()
+                .jsonPath("$.content[0].city.district").doesNotExist()
+                .jsonPath("$.page.totalElements").value(Integer.class, total -> assertTrue(total >= 9));
+    }
+
+    @Test
+    void findAllSortedByFieldNotSelected() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(RELATIVE_URL).queryParam("fields", "name").queryParam("sort", "city.name").queryParam("size", 1).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].name").isEqualTo("Ana Paula Maria");
+    }
+
+    @Test
+    void findAllInvalidFields() {
+        for (final var fields : List.of("unknownField", "version", "city", "city.unknownField", "name.length")) {
+            client().get()
+                    .uri(uriBuilder -> uriBuilder.path(RELATIVE_URL).queryParam("fields", fields).build())
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+    }
+
+    @Test
+    void searchSelectedFields() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(SEARCH_URL).queryParam("q", "silva").queryParam("fields", "name,city.district.abbreviation").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].name").isEqualTo("Helena Silva")
+                .jsonPath("$.content[0].city.district.abbreviation").isEqualTo("RS")
+                .jsonPath("$.content[1].name").isEqualTo("Marta Silva")
+                .jsonPath("$.content[1].city.district.abbreviation").isEqualTo("SP");
+
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(SEARCH_URL).queryParam("q", "pedro").queryParam("prefix", true).queryParam("fields", "name").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[*].name").isEqualTo(List.of("Pedro Artur", "Pedro Miguel"));
+    }
+
+    @Test
+    void scrollSelectedFields() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(SCROLL_URL).queryParam("fields", "name").queryParam("limit", 2).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[*].id").isEqualTo(List.of(1, 2))
+                .jsonPath("$.content[1].name").isEqualTo("João Pedro")
+                .jsonPath("$.content[1].city").doesNotExist()
+                .jsonPath("$.next").isNotEmpty();
+    }
+
+    @Test
+    void fullTextSearchByNameAndCity() {
+        // Pedro Miguel and Pedro Artur live in Porto Velho, João Pedro lives in São Paulo
+        assertEquals(List.of("Pedro Artur", "Pedro Miguel"), sorted(fullTextSearch("pedro porto")));
+        assertEquals(List.of("João Pedro"), fullTextSearch("PEDRO sao paulo"));
+    }
+
+    @Test
+    void fullTextSearchByPartialWords() {
+        assertEquals(List.of("Helena Silva", "Marta Silva"), sorted(fullTextSearch("silv")));
+        assertEquals(List.of("Manoel Campos"), fullTextSearch("3318475"));
+    }
+
+    @Test
+    void fullTextSearchRanksWholeWordsFirst() {
+        final long id1 = insert(new CustomerDTO(null, "Rankingtest Customer", "11144477735", 1L));
+        final long id2 = insert(new CustomerDTO(null, "Rank Customer", "52998224725", 1L));
+        try {
+            // "rank" is a whole word only in the 2nd customer, but it's the beginning of a word in both
+            assertEquals(List.of("Rank Customer", "Rankingtest Customer"), fullTextSearch("rank"));
+        } finally {
+            delete(id1);
+            delete(id2);
+        }
+    }
+
+    @Test
+    void fullTextSearchPaged() {
+        client().get()
+                .uri(uriBuilder -> uriBuilder.path(FULLTEXT_URL).queryParam("q", "pedro").queryParam("size", 2).queryParam("page", 1).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.page.totalElements").isEqualTo(3);
+    }
+
+    @Test
+    void fullTextIndexesChangedCustomer() {
+        final long id = insert(new CustomerDTO(null, "Fulltext Testcustomer", "71428793860", 2L));
+
+        // The city name is indexed, although only the city ID was sent
+        assertEquals(List.of("Fulltext Testcustomer"), fullTextSearch("testcustomer curitiba"));
+
+        delete(id);
+        assertEquals(List.of(), fullTextSearch("testcustomer"));
+    }
+
+    @Test
+    void fullTextIndexesCustomersOfRenamedCity() {
+        final long cityId = insertCity(new CityDTO(null, "Oldnametown", 1L));
+        final long id = insert(new CustomerDTO(null, "Fulltext Citizen", "71428793860", cityId));
+        try {
+            assertEquals(List.of("Fulltext Citizen"), fullTextSearch("oldnametown"));
+
+            renameCity(cityId, "Newnametown");
+
+            // The customer is indexed again with the new name of the city
+            assertEquals(List.of("Fulltext Citizen"), fullTextSearch("newnametown"));
+            assertEquals(List.of(), fullTextSearch("oldnametown"));
+        } finally {
+            delete(id);
+            client().delete().uri(CITY_BY_ID_URL, cityId).exchange().expectStatus().isNoContent();
+        }
+    }
+
+    @Test
+    void findByIdETagChangesWhenCityChanges() {
+        final long cityId = insertCity(new CityDTO(null, "ETag Old Town", 1L));
+        final long id = insert(new CustomerDTO(null, "ETag Citizen", "71428793860", cityId));
+        try {
+            final String etag = client().get()
+                                        .uri(BY_ID_URL, id)
+                                        .exchange()
+                                        .expectStatus().isOk()
+                                        .returnResult(String.class)
+                                        .getResponseHeaders()
+                                        .getETag();
+            assertNotNull(etag);
+
+            // The customer version doesn't change, but the response includes the renamed city
+            renameCity(cityId, "ETag New Town");
+            client().get()
+                    .uri(BY_ID_URL, id)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.city.name").isEqualTo("ETag New Town");
+
+            client().put()
+                    .uri(BY_ID_URL, id)
+                    .header(HttpHeaders.IF_MATCH, etag)
+                    .bodyValue(new CustomerDTO(id, "ETag Citizen Updated", "71428793860", cityId))
+                    .exchange()
+                    .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        } finally {
+            delete(id);
+            client().delete().uri(CITY_BY_ID_URL, cityId).exchange().expectStatus().isNoContent();
+        }
+    }
+
+    @Test
+    void rebuildFullTextIndex() {
+        client().post()
+                .uri(PathUtil.concat(FULLTEXT_URL, "/rebuild"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Long.class)
+                .value(count -> assertTrue(count >= 9));
+
+        assertEquals(List.of("Manoel Campos"), fullTextSearch("manoel"));
+    }
+
+    /// Searches customers by some words and returns the names of the customers found, in the order they are ranked.
+    private List<String> fullTextSearch(final String text) {
+        final var page = client().get()
+                                 .uri(uriBuilder -> uriBuilder.path(FULLTEXT_URL).queryParam("q", text).build())
+                                 .exchange()
+                                 .expectStatus().isOk()
+                                 .expectBody(CustomerPage.class)
+                                 .returnResult()
+                                 .getResponseBody();
+
+        assertNotNull(page);
+        return page.content().stream().map(customer -> customer.name).toList();
+    }
+
+    /// Inserts a new Customer into the database and returns its generated id.
+    private long insert(final CustomerDTO customerToInsert) {
+        // The returned city only has the ID, so just the customer ID is read
+        final var inserted = client().post()
+                                     .uri(RELATIVE_URL)
+                                     .bodyValue(customerToInsert)
+                                     .exchange()
+                                     .expectStatus().isCreated()
+                                     .expectBody(InsertedEntity.class)
+                                     .returnResult()
+                                     .getResponseBody();
+
+        return Objects.requireNonNull(inserted).id();
+    }
+
+    private long insertCity(final CityDTO cityToInsert) {
+        final var inserted = client().post()
+                                     .uri("/city")
+                                     .bodyValue(cityToInsert)
+                                     .exchange()
+                                     .expectStatus().isCreated()
+                                     .expectBody(InsertedEntity.class)
+                                     .returnResult()
+                                     .getResponseBody();
+
+        return Objects.requireNonNull(inserted).id();
+    }
+
+    private void renameCity(final long cityId, final String name) {
+        client().put()
+                .uri(CITY_BY_ID_URL, cityId)
+                .bodyValue(new CityDTO(cityId, name, 1L))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    private void delete(final long id) {
+        client().delete().uri(BY_ID_URL, id).exchange().expectStatus().isNoContent();
+    }
+
+    private static List<String> sorted(final List<String> names) {
+        return names.stream().sorted().toList();
+    }
+
+    private record CustomerPage(List<Customer> content) {}
+
+    private record InsertedEntity(long id) {}
+}
@@ -0,0 +1,129 @@
+package sample.application.api.feature.customer;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import sample.application.api.feature.city.City;
+import sample.application.api.feature.product.AbstractServiceTest;
+import sample.application.api.feature.product.Product;
+import sample.application.api.shared.service.EntityChangedEvent;
+import sample.application.api.shared.service.FullTextIndexService;
+import sample.application.api.shared.service.SearchIndexService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Checks the cache enabled by the [sample.application.api.shared.service.EntityCache] annotation.
+class CustomerServiceTest extends AbstractServiceTest {
+    @Mock
+    private CustomerRepository repository;
+
+    @Mock
+    private SearchIndexService searchIndex;
+
+    @Mock
+    private FullTextIndexService fullTextIndex;
+
+    @InjectMocks
+    private CustomerService service;
+
+    private final Customer customer = new Customer(1);
+
+    @Test
+    void findByIdLoadsFromCache() {
+        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(customer));
+
+        assertSame(customer, service.findById(1).orElseThrow());
+        assertSame(customer, service.findById(1).orElseThrow());
+        Mockito.verify(repository).findById(1L);
+    }
+
+    @Test
+    void findByIdNotFoundIsNotCached() {
+        Mockito.when(repository.findById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(service.findById(2).isEmpty());
+        assertTrue(service.findById(2).isEmpty());
+        Mockito.verify(repository, Mockito.times(2)).findById(2L);
+    }
+
+    @Test
+    void saveEvictsCache() {
+        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(customer));
+        Mockito.when(repository.saveAndFlush(customer)).thenReturn(customer);
+
+        service.findById(1);
+        service.save(customer);
+        service.findById(1);
+        Mockito.verify(repository, Mockito.times(2)).findById(1L);
+    }
+
+    @Test
+    void deleteByIdEvictsCache() {
+        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(customer));
+
+        service.findById(1);
+        service.deleteById(1);
+        service.findById(1);
+        Mockito.verify(repository).delete(customer);
+        Mockito.verify(repository, Mockito.times(2)).findById(1L);
+    }
+
+    @Test
+    void relatedEntityChangeClearsCache() {
+        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(customer));
+
+        service.findById(1);
+        // Products are not included in customers, so the cache is kept
+        service.relatedEntityChanged(new EntityChangedEvent(Product.class));
+        service.findById(1);
+        Mockito.verify(repository).findById(1L);
+
+        service.relatedEntityChanged(new EntityChangedEvent(City.class));
+        service.findById(1);
+        Mockito.verify(repository, Mockito.times(2)).findById(1L);
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() {
+        final int threads = 8;
+        final var started = new CountDownLatch(threads);
+        final var loading = new CountDownLatch(1);
+        Mockito.when(repository.findById(1L)).thenAnswer(invocation -> {
+            // Holds the load, so that the other threads request the same ID while it's in progress
+            loading.await();
+            return Optional.of(customer);
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (var executor = Executors.newFixedThreadPool(threads)) {
+                final var results = new ArrayList<Future<Customer>>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        started.countDown();
+                        return service.findById(1).orElseThrow();
+                    }));
+                }
+
+                started.await();
+                Thread.sleep(100);
+                loading.countDown();
+                for (final var result : results) {
+                    assertSame(customer, result.get());
+                }
+            }
+        });
+
+        Mockito.verify(repository).findById(1L);
+    }
+}
@@ -1,10 +1,14 @@
 package sample.application.api.feature.district;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import sample.application.api.controller.AbstractControllerTest;
+import sample.application.api.shared.controller.ScrollResult;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class DistrictControllerTest extends AbstractControllerTest {
     @Test
@@ -25,4 +29,60 @@ class DistrictControllerTest extends AbstractControllerTest {
         assertNotNull(fetchedDistrict);
         assertEquals(expectedState.name, fetchedDistrict.name);
     }
+
+    @Test
+    void scroll() {
+        final int limit = 10;
+        final var first = scroll(null, limit);
+        assertEquals(limit, first.content().size());
+        assertNotNull(first.next());
+
+        final var second = scroll(first.next(), limit);
+        assertEquals(limit, second.content().size());
+        final long lastIdFromFirst = first.content().getLast().id;
+        assertTrue(second.content().stream().allMatch(district -> district.id > lastIdFromFirst));
+    }
+
+    @Test
+    void export() {
+        final var body = client().get()
+                                 .uri("/district/export")
+                                 .exchange()
+                                 .expectStatus().isOk()
+                                 .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                                 .expectBody(String.class)
+                                 .returnResult()
+                                 .getResponseBody();
+
+        assertNotNull(body);
+        final var lines = body.lines().toList();
+        assertTrue(lines.size() >= 27);
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+    }
+
+    @Test
+    void scrollInvalidCursor() {
+        client().get()
+                .uri("/district/scroll?after={after}", "invalid")
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+    }
+
+    private ScrollResult<District> scroll(final String after, final int limit) {
+        final var result = client().get()
+                                   .uri(uriBuilder -> uriBuilder.path("/district/scroll")
+                                                                .queryParamIfPresent("after", Optional.ofNullable(after))
+                                                                .queryParam("limit", limit)
+                                                                .build())
+                                   .exchange()
+                                   .expectStatus()
+                                   .isOk()
+                                   .expectBody(new ParameterizedTypeReference<ScrollResult<District>>() {})
+                                   .returnResult()
+                                   .getResponseBody();
+
+        assertNotNull(result);
+        return result;
+    }
 }
@@ -65,7 +65,7 @@ class DistrictRepositoryTest {
     void errorInsertingWithoutDescription() {
         final var estado = new District();
         estado.abbreviation = "NE";
-        assertThrows(ConstraintViolationException.class, () -> repository.save(estado));
+        assertThrows(ConstraintViolationException.class, () -> repository.saveAndFlush(estado));
     }
 
 
@@ -0,0 +1,25 @@
+package sample.application.api.feature.product;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.application.api.feature.AbstractRepositoryTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductRepositoryTest extends AbstractRepositoryTest {
+    @Autowired
+    private ProductRepository repository;
+
+    @Test
+    void findStockByIdIn() {
+        // Product 1000 doesn't exist
+        final var stockList = repository.findStockByIdIn(List.of(1L, 2L, 1000L));
+        assertEquals(2, stockList.size());
+
+        final var notebook = stockList.stream().filter(stock -> stock.id() == 1).findFirst().orElseThrow();
+        assertEquals("Notebook", notebook.description());
+        assertEquals(2, notebook.amount());
+    }
+}
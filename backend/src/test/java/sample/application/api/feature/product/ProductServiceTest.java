@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import sample.application.api.shared.service.FullTextIndexService;
+import sample.application.api.shared.service.SearchIndexService;
 
 import java.util.Optional;
 
@@ -19,6 +21,15 @@ class ProductServiceTest extends AbstractServiceTest {
     @Mock // Creates a fake object (a puppet) to simulate the behavior of a real object.
     private ProductRepository repository;
 
+    @Mock
+    private StripedStockService stripedStockService;
+
+    @Mock
+    private SearchIndexService searchIndex;
+
+    @Mock
+    private FullTextIndexService fullTextIndex;
+
     @Test
     void deleteById() {
         final long id = 1L;
@@ -0,0 +1,54 @@
+package sample.application.api.feature.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.application.api.feature.AbstractRepositoryTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductStockStripeRepositoryTest extends AbstractRepositoryTest {
+    @Autowired
+    private ProductStockStripeRepository repository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    /// Splits the stock of a product into stripes having 5, 0, 5 and 1 units.
+    @BeforeEach
+    void setUp() {
+        product = productRepository.findById(3L).orElseThrow();
+        final int[] amounts = {5, 0, 5, 1};
+        for (int i = 0; i < amounts.length; i++) {
+            repository.save(new ProductStockStripe(product, i, amounts[i]));
+        }
+    }
+
+    @Test
+    void findAvailableFromStartStripe() {
+        assertEquals(0, findAvailableStripe(0, 1));
+        assertEquals(2, findAvailableStripe(2, 1));
+        assertEquals(3, findAvailableStripe(3, 1));
+    }
+
+    @Test
+    void findAvailableSkipsStripesWithoutEnoughUnits() {
+        assertEquals(2, findAvailableStripe(1, 1));
+        assertEquals(2, findAvailableStripe(1, 5));
+    }
+
+    @Test
+    void findAvailableWrapsAround() {
+        assertEquals(0, findAvailableStripe(3, 2));
+        assertTrue(repository.findAvailable(product.id, 0, 6).isEmpty());
+    }
+
+    private int findAvailableStripe(final int start, final int amount) {
+        return repository.findAvailable(product.id, start, amount).orElseThrow().stripe;
+    }
+}
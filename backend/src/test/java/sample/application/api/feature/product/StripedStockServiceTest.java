@@ -0,0 +1,77 @@
+package sample.application.api.feature.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Checks that editing a product using striped inventory keeps the units sold from its stripes
+/// since the last reconciliation, when the client sends the (stale) amount it got before.
+/// Each test is rolled back.
+@SpringBootTest
+@Transactional
+class StripedStockServiceTest {
+    private static final int STOCK = 40;
+    private static final int STRIPES = 4;
+    private static final int SOLD = 7;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    @Autowired
+    private ProductStockStripeRepository stripeRepository;
+
+    private Product product;
+
+    /// Creates a product using striped inventory and sells some units from its stripes, without reconciling its amount.
+    @BeforeEach
+    void setUp() {
+        final var newProduct = new Product();
+        newProduct.description = "Striped Stock Test Product";
+        newProduct.price = 10;
+        newProduct.amount = STOCK;
+        product = productService.save(newProduct);
+        stripedStockService.stripe(product.id, STRIPES);
+
+        for (int i = 0; i < SOLD; i++) {
+            assertTrue(stripedStockService.decreaseStock(product.id, STRIPES, 1));
+        }
+    }
+
+    @Test
+    void updateDescriptionKeepsStripedStock() {
+        productService.save(edited("Striped Stock Test Product Renamed", STOCK));
+        assertStock(STOCK - SOLD);
+    }
+
+    @Test
+    void updateAmountAppliesOnlyTheChange() {
+        productService.save(edited(product.description, STOCK + 10));
+        assertStock(STOCK - SOLD + 10);
+    }
+
+    @Test
+    void updateAmountBelowSoldUnitsFails() {
+        assertThrows(IllegalStateException.class, () -> productService.save(edited(product.description, SOLD - 1)));
+    }
+
+    /// {@return a product with the same ID of the test product, as sent by a client that got it before the units were sold}
+    private Product edited(final String description, final int amount) {
+        return new Product(product.id, description, product.price, amount);
+    }
+
+    private void assertStock(final int expected) {
+        assertEquals(STRIPES, stripedStockService.findStripeCounts(List.of(product.id)).get(product.id));
+        assertEquals(expected, stripeRepository.sumAmount(product.id));
+    }
+}
@@ -0,0 +1,127 @@
+package sample.application.api.feature.purchase;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.test.context.TestPropertySource;
+import sample.application.api.feature.AbstractRepositoryTest;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.product.StripedStockService;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Checks that purchases are loaded with all associations used when serializing them
+/// in a fixed number of queries, using Hibernate [Statistics].
+/// It also checks that the items of a new purchase are inserted in JDBC batches.
+@Import({PurchaseService.class, StripedStockService.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PurchaseRepositoryTest extends AbstractRepositoryTest {
+    /// Number of items in each purchase saved to check JDBC batching
+    private static final int ITEMS = 200;
+
+    /// Number of purchases saved to compare the number of statements sent with and without JDBC batching
+    private static final int PURCHASES = 20;
+
+    @Autowired
+    private PurchaseService service;
+
+    @Autowired
+    private PurchaseRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Ensures nothing is already loaded in the persistence context
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllLoadsGraphInFixedNumberOfQueries() {
+        final var purchases = service.findAll(PageRequest.of(0, 3)).getContent();
+        final long queries = statistics.getPrepareStatementCount();
+
+        assertEquals(3, purchases.size());
+        assertGraphLoaded(purchases);
+        // page query, count query and items query
+        assertEquals(3, queries);
+        assertEquals(queries, statistics.getPrepareStatementCount(), "Associations were lazily loaded while being accessed");
+    }
+
+    @Test
+    void scrollLoadsGraphInFixedNumberOfQueries() {
+        final var purchases = service.scroll(ScrollPosition.keyset(), 10).getContent();
+        final long queries = statistics.getPrepareStatementCount();
+
+        assertFalse(purchases.isEmpty());
+        assertGraphLoaded(purchases);
+        // window query and items query
+        assertEquals(2, queries);
+        assertEquals(queries, statistics.getPrepareStatementCount(), "Associations were lazily loaded while being accessed");
+    }
+
+    @Test
+    void findByIdLoadsGraphInSingleQuery() {
+        final var purchase = service.findById(1).orElseThrow();
+
+        assertGraphLoaded(List.of(purchase));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /// Compares saving large purchases without JDBC batching (one insert statement per item)
+    /// and with the batch size defined in the `hibernate.jdbc.batch_size` property.
+    @Test
+    void saveLargePurchaseInBatches() {
+        final var session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(1);
+        final long unbatchedStatements = savePurchases(PURCHASES);
+        session.setJdbcBatchSize(null);
+        final long batchedStatements = savePurchases(PURCHASES);
+
+        // With batching, the items of a purchase are sent in a handful of statements, instead of one per item
+        assertTrue(unbatchedStatements >= (long) PURCHASES * ITEMS);
+        assertTrue(batchedStatements < (long) PURCHASES * ITEMS / 10);
+    }
+
+    /// {@return the number of SQL statements executed to save the purchases}
+    private long savePurchases(final int count) {
+        statistics.clear();
+        for (int i = 0; i < count; i++) {
+            final var purchase = new Purchase(new Customer(1));
+            purchase.setItens(IntStream.rangeClosed(1, ITEMS).mapToObj(j -> new PurchaseItem(3, 1)).toList());
+            repository.saveAndFlush(purchase);
+            entityManager.clear();
+        }
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /// Access all associations that are serialized with a purchase.
+    private static void assertGraphLoaded(final List<Purchase> purchases) {
+        for (final var purchase : purchases) {
+            assertFalse(purchase.customer.city.district.name.isBlank());
+            assertTrue(purchase.itens.stream().noneMatch(item -> item.product.description.isBlank()));
+        }
+    }
+}
@@ -9,11 +9,14 @@ import sample.application.api.feature.customer.Customer;
 import sample.application.api.feature.product.AbstractServiceTest;
 import sample.application.api.feature.product.Product;
 import sample.application.api.feature.product.ProductRepository;
+import sample.application.api.feature.product.ProductStock;
+import sample.application.api.feature.product.StripedStockService;
+import sample.application.api.shared.service.WriteMode;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,20 +39,29 @@ class PurchaseServiceTest extends AbstractServiceTest {
     @Mock
     private PurchaseRepository repository;
 
+    @Mock
+    private StripedStockService stripedStockService;
+
     private final Purchase purchase = new Purchase(new Customer(1));
     private final Product prod1 = new Product(1, "Prod 1", 100.0, 10);
+    private final Product prod2 = new Product(2, "Prod 2", 50.0, 10);
 
-    private void configurarMockProdutoRepository(Product prod) {
-        final Long id = Objects.requireNonNullElse(prod.getId(), 0L);
+    private void configurarMockProdutoRepository(final Product ...prods) {
+        final var stockList = Arrays.stream(prods).map(PurchaseServiceTest::toStock).toList();
         // Mockito is the mock library included in Spring.
         Mockito
-            .when(productRepository.findById(id))
-            .thenReturn(Optional.of(prod));
+            .when(productRepository.findStockByIdIn(Mockito.anyCollection()))
+            .thenReturn(stockList);
+    }
+
+    private static ProductStock toStock(final Product prod) {
+        final long id = Objects.requireNonNullElse(prod.getId(), 0L);
+        return new ProductStock(id, prod.description, prod.amount);
     }
 
     @Test
     void insertOutOfStockProduct() {
-        configurarMockProdutoRepository(prod1);
+        configurarMockProdutoRepository(prod1, prod2);
         final var itens = List.of(new PurchaseItem(1, 20), new PurchaseItem(2, 5));
         purchase.setItens(itens);
 
@@ -57,8 +69,42 @@ class PurchaseServiceTest extends AbstractServiceTest {
     }
 
     @Test
-    void insertWithProductNotDefined() {
+    void insertSameProductInMultipleItemsOutOfStock() {
+        configurarMockProdutoRepository(prod1);
+        // Each item alone is within the stock, but the total quantity isn't
+        final var itens = List.of(new PurchaseItem(1, 6), new PurchaseItem(1, 6));
+        purchase.setItens(itens);
+
+        assertThrows(IllegalStateException.class, () -> service.save(purchase));
+    }
+
+    @Test
+    void insertDecreasesStock() {
+        configurarMockProdutoRepository(prod1, prod2);
+        Mockito.when(productRepository.decreaseStock(Mockito.anyLong(), Mockito.anyInt())).thenReturn(1);
+        Mockito.when(repository.save(purchase)).thenReturn(purchase);
+        purchase.setItens(List.of(new PurchaseItem(2, 1), new PurchaseItem(1, 2), new PurchaseItem(1, 3)));
+
+        service.save(purchase);
+
+        final var inOrder = Mockito.inOrder(productRepository);
+        inOrder.verify(productRepository).decreaseStock(1, 5);
+        inOrder.verify(productRepository).decreaseStock(2, 1);
+    }
+
+    /// Simulates another purchase taking the last units of a product
+    /// after the stock was checked, but before it was decreased.
+    @Test
+    void insertWhenStockIsTakenConcurrently() {
         configurarMockProdutoRepository(prod1);
+        Mockito.when(productRepository.decreaseStock(1, 2)).thenReturn(0);
+        purchase.setItens(List.of(new PurchaseItem(1, 2)));
+
+        assertThrows(IllegalStateException.class, () -> service.save(purchase));
+    }
+
+    @Test
+    void insertWithProductNotDefined() {
         final var itens = List.of(new PurchaseItem(1, 2), new PurchaseItem());
         purchase.setItens(itens);
 
@@ -67,7 +113,6 @@ class PurchaseServiceTest extends AbstractServiceTest {
 
     @Test
     void insertWithProductIdNotDefined() {
-        configurarMockProdutoRepository(prod1);
         final var itens = List.of(new PurchaseItem(1, 2), new PurchaseItem(new Product()));
         purchase.setItens(itens);
         assertThrows(IllegalStateException.class, () -> service.save(purchase));
@@ -84,10 +129,18 @@ class PurchaseServiceTest extends AbstractServiceTest {
     void updatePurchaseDoesntChangeProductStock() {
         final var itens = List.of(new PurchaseItem(1, 2), new PurchaseItem());
         final var existingPurchase = new Purchase(4, itens);
-        Mockito.when(repository.saveAndFlush(existingPurchase)).thenReturn(existingPurchase);
+        Mockito.when(repository.save(existingPurchase)).thenReturn(existingPurchase);
 
         final var fetchedPurchase = service.save(existingPurchase);
         assertEquals(existingPurchase, fetchedPurchase);
     }
 
+    @Test
+    void saveImmediatelyFlushesPurchase() {
+        final var existingPurchase = new Purchase(4, List.of(new PurchaseItem(1, 2)));
+        Mockito.when(repository.saveAndFlush(existingPurchase)).thenReturn(existingPurchase);
+
+        assertEquals(existingPurchase, service.save(existingPurchase, WriteMode.IMMEDIATE));
+        Mockito.verify(repository, Mockito.never()).save(existingPurchase);
+    }
 }
@@ -0,0 +1,108 @@
+package sample.application.api.feature.purchase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import sample.application.api.feature.customer.Customer;
+import sample.application.api.feature.product.Product;
+import sample.application.api.feature.product.ProductRepository;
+import sample.application.api.feature.product.StripedStockService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/// Stress test that checks that concurrent purchases of the same product
+/// never make its stock negative.
+/// Each purchase runs in its own transaction, so the [SpringBootTest] is used
+/// instead of a rolled back `DataJpaTest`.
+/// The test runs for a regular product and for a product using striped inventory.
+/// It only checks the stock is correct: the throughput of both under contention
+/// is measured by the `StripedStockBenchmarkTest`.
+@SpringBootTest
+class PurchaseStockConcurrencyTest {
+    private static final int STOCK = 50;
+    private static final int PURCHASES = 400;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PurchaseService service;
+
+    @Autowired
+    private PurchaseRepository repository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    private Product product;
+    private final Queue<Long> purchaseIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        final var newProduct = new Product();
+        newProduct.description = "Stress Test Product";
+        newProduct.price = 10;
+        newProduct.amount = STOCK;
+        product = productRepository.save(newProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllById(purchaseIds);
+        stripedStockService.collapse(product.id);
+        productRepository.deleteById(product.id);
+    }
+
+    /// @param stripes number of stripes to split the product stock into (1 means no striped inventory)
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8})
+    void concurrentPurchasesNeverMakeStockNegative(final int stripes) {
+        stripedStockService.stripe(product.id, stripes);
+        final var sold = new AtomicInteger();
+        final var outOfStock = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (var executor = Executors.newFixedThreadPool(THREADS)) {
+                for (int i = 0; i < PURCHASES; i++) {
+                    executor.submit(() -> {
+                        start.await();
+                        buy(sold, outOfStock);
+                        return null;
+                    });
+                }
+
+                start.countDown();
+            }
+        });
+
+        assertEquals(STOCK, sold.get());
+        assertEquals(PURCHASES - STOCK, outOfStock.get());
+        stripedStockService.reconcile();
+        assertEquals(0, productRepository.findById(product.id).orElseThrow().amount);
+    }
+
+    private void buy(final AtomicInteger sold, final AtomicInteger outOfStock) {
+        final var purchase = new Purchase(new Customer(1));
+        purchase.setItens(List.of(new PurchaseItem(product.id, 1)));
+        try {
+            purchaseIds.add(service.save(purchase).id);
+            sold.incrementAndGet();
+        } catch (final IllegalStateException e) {
+            outOfStock.incrementAndGet();
+        }
+    }
+}
@@ -3,6 +3,25 @@ import { posix } from 'path';
 import { AxiosHttpClient } from '@/app/core/http/AxiosHttpClient';
 import { BaseModel } from '@/app/model/models.generated';
 
+/**
+ * Tamanho máximo de página aceito pelo backend (propriedade spring.data.web.pageable.max-page-size).
+ */
+export const MAX_PAGE_SIZE = 1000;
+
+/**
+ * Página de registros retornada pelos endpoints de listagem do backend.
+ * @param T tipo dos registros na página
+ */
+export interface Page<T> {
+    content: T[];
+    page: {
+        size: number;
+        number: number;
+        totalElements: number;
+        totalPages: number;
+    };
+}
+
 /**
  * Classe base para implementação de serviços que manipulam classes model, mas não DTOs.
  * Ela fornece apenas as operações que não precisam de um DTO.
@@ -28,8 +47,25 @@ export abstract class BaseService<T extends BaseModel> {
         return this.httpClient.get<R>(path);
     }
 
+    /**
+     * Obtém uma página de registros.
+     * @param page número da página (iniciando em 0)
+     * @param size quantidade de registros por página
+     * @param sort campo para ordenação, opcionalmente seguido da direção (como "name,desc")
+     */
+    async getPage(page = 0, size = 20, sort?: string): Promise<Page<T>> {
+        return this.httpClient.get<Page<T>>(this.validatedResourceUrl, { params: { page, size, sort } });
+    }
+
+    /**
+     * Obtém os registros de uma lista curta (como as opções de um campo de seleção), em uma única requisição.
+     * São retornados no máximo {@link MAX_PAGE_SIZE} registros (ordenados pelo id), para que uma tabela grande
+     * não seja carregada inteira para a memória do navegador.
+     * Para listas longas, use {@link getPage} (como o componente Table) ou os endpoints de autocomplete.
+     */
     async getAll(): Promise<T[]> {
-        return this.get<T[]>();
+        const page = await this.getPage(0, MAX_PAGE_SIZE, 'id');
+        return page.content;
     }
 
     async delete(id: number | string): Promise<void> {
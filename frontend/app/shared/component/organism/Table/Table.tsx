@@ -6,11 +6,11 @@ import { ActionIcon, Box, Button, Group, Text, Tooltip } from '@mantine/core';
 import { closeAllModals, openModal } from '@mantine/modals';
 import { showNotification } from '@mantine/notifications';
 import { IconEdit, IconEye, IconTrash } from '@tabler/icons-react';
-import { DataTableProps } from 'mantine-datatable';
+import { DataTableProps, DataTableSortStatus } from 'mantine-datatable';
 import Link from 'next/link';
 
-import ViewTable from '../ViewTable/ViewTable';
-import { BaseService } from '@/app/core/service/BaseService';
+import ViewTable, { PAGE_SIZES } from '../ViewTable/ViewTable';
+import { BaseService, Page } from '@/app/core/service/BaseService';
 import { BaseModel } from '@/app/model/models.generated';
 import { ErrorAlert } from '@/app/shared/component';
 import useService from '@/app/shared/hook/useService';
@@ -60,8 +60,10 @@ type TableProps<M extends BaseModel, S extends BaseService<M>> = {
  * @param {S} service - The service to be used by this ViewTable component
  * @param {DataTableProps<M>['columns']} columns - The columns to be displayed in this ViewTable
  * @param {string} basePath - The base path for endpoints to perform CRUD operations (such as delete)
- * @param {(() => Promise<M[]>)} [customFetchMethod] - Optional custom fetch method to get the data to display.
- *        If none is provided, it will use () => service.getAll().
+ * @param {(() => Promise<M[]>)} [customFetchMethod] - Optional custom fetch method to get the data to display,
+ *        which is paged and sorted in memory.
+ *        If none is provided, each page is got from the backend by service.getPage(),
+ *        so that large tables are never entirely loaded.
  *        If you want to use an already avaliable data instead of calling some service method,
  *        you could use () => Promise.resolve(data).
  * @param customEditFunction custom function to be called when the edit action is clicked. Check {@link TableProps} for more details.
@@ -82,15 +84,33 @@ const Table = <M extends BaseModel, S extends BaseService<M>>({
     actionsSettings,
     pagination = true,
 }: TableProps<M, S>) => {
-    const fetchMethod = useCallback(
-        () => (customFetchMethod ? customFetchMethod() : service.getAll()),
-        [customFetchMethod, service]
-    );
+    const [page, setPage] = useState(1);
+    const [pageSize, setPageSize] = useState(PAGE_SIZES[0]);
+    const [sortStatus, setSortStatus] = useState<DataTableSortStatus>({ columnAccessor: 'id', direction: 'asc' });
+
+    const fetchMethod = useCallback(async (): Promise<Page<M>> => {
+        if (customFetchMethod) {
+            const content = await customFetchMethod();
+            return {
+                content,
+                page: { size: content.length, number: 0, totalElements: content.length, totalPages: 1 },
+            };
+        }
+
+        return service.getPage(page - 1, pageSize, `${sortStatus.columnAccessor},${sortStatus.direction}`);
+    }, [customFetchMethod, service, page, pageSize, sortStatus]);
 
-    const { data: dataService, loading, error } = useService(fetchMethod);
+    const emptyPage: Page<M> = { content: [], page: { size: 0, number: 0, totalElements: 0, totalPages: 0 } };
+    const { data: dataService, loading, error } = useService(fetchMethod, emptyPage);
     const [data, setData] = useState<M[]>([]);
+    const [totalRecords, setTotalRecords] = useState(0);
 
-    useEffect(() => setData(dataService), [dataService]);
+    const showPage = useCallback((result: Page<M>) => {
+        setData(result.content);
+        setTotalRecords(result.page.totalElements);
+    }, []);
+
+    useEffect(() => showPage(dataService), [dataService]);
 
     const deleteRecord = useCallback(
         (item: M) => {
@@ -113,7 +133,7 @@ const Table = <M extends BaseModel, S extends BaseService<M>>({
                         message: 'Cadastro excluído com sucesso!',
                     });
 
-                    fetchMethod().then(newData => setData(newData));
+                    fetchMethod().then(showPage);
                 })
                 .catch(e => {
                     showNotification({
@@ -236,7 +256,21 @@ const Table = <M extends BaseModel, S extends BaseService<M>>({
         return <ErrorAlert title="Erro ao carregar dados" message={error.toString()} />;
     }
 
-    return <ViewTable data={data} columns={effectiveColumns} loading={loading} pagination={pagination} />;
+    const remote = customFetchMethod
+        ? undefined
+        : {
+              totalRecords,
+              page,
+              onPageChange: setPage,
+              pageSize,
+              onPageSizeChange: setPageSize,
+              sortStatus,
+              onSortStatusChange: setSortStatus,
+          };
+
+    return (
+        <ViewTable data={data} columns={effectiveColumns} loading={loading} pagination={pagination} remote={remote} />
+    );
 };
 
 export default Table;
@@ -8,13 +8,35 @@ import { DataTable, DataTableProps, DataTableSortStatus } from 'mantine-datatabl
 
 import { BaseModel } from '@/app/model/models.generated';
 
-const PAGE_SIZES = [5, 10, 20];
+export const PAGE_SIZES = [5, 10, 20];
+
+/**
+ * State of a table whose records are paged and sorted by the backend,
+ * so that the data given to the {@link ViewTable} is just the current page.
+ */
+export type RemotePagination = {
+    /**
+     * Total number of records in all pages.
+     */
+    totalRecords: number;
+
+    /**
+     * Number of the current page (starting at 1).
+     */
+    page: number;
+    onPageChange: (page: number) => void;
+    pageSize: number;
+    onPageSizeChange: (pageSize: number) => void;
+    sortStatus: DataTableSortStatus;
+    onSortStatusChange: (sortStatus: DataTableSortStatus) => void;
+};
 
 type TableProps<M extends BaseModel> = {
     data: M[];
     columns: DataTableProps<M>['columns'];
     loading?: boolean;
     pagination?: boolean;
+    remote?: RemotePagination;
 };
 
 /**
@@ -22,15 +44,24 @@ type TableProps<M extends BaseModel> = {
  * @template M - Model that extends from {@link BaseModel}
  * @param data
  * @param {DataTableProps<M>['columns']} columns - The columns to be displayed in this ViewTable
+ * @param remote - Optional state of the pagination done by the backend.
+ *        If none is provided, the data is paged and sorted in memory.
  */
-const ViewTable = <M extends BaseModel>({ data, columns, loading, pagination = true }: TableProps<M>) => {
-    const [page, setPage] = useState(1);
-    const [pageSize, setPageSize] = useState(PAGE_SIZES[0]);
-    const [records, setRecords] = useState<M[]>(data.slice(0, pageSize));
-    const [sortStatus, setSortStatus] = useState<DataTableSortStatus>({
+const ViewTable = <M extends BaseModel>({ data, columns, loading, pagination = true, remote }: TableProps<M>) => {
+    const [localPage, setLocalPage] = useState(1);
+    const [localPageSize, setLocalPageSize] = useState(PAGE_SIZES[0]);
+    const [localRecords, setRecords] = useState<M[]>(data.slice(0, localPageSize));
+    const [localSortStatus, setLocalSortStatus] = useState<DataTableSortStatus>({
         columnAccessor: 'id',
         direction: 'asc',
     });
+    const page = remote?.page ?? localPage;
+    const setPage = remote?.onPageChange ?? setLocalPage;
+    const pageSize = remote?.pageSize ?? localPageSize;
+    const setPageSize = remote?.onPageSizeChange ?? setLocalPageSize;
+    const sortStatus = remote?.sortStatus ?? localSortStatus;
+    const setSortStatus = remote?.onSortStatusChange ?? setLocalSortStatus;
+    const records = remote ? data : localRecords;
     const [query] = useState('');
     const [debouncedQuery] = useDebouncedValue(query, 200);
     const recordsWithKeys = records.map((record, index) => ({
@@ -54,13 +85,17 @@ const ViewTable = <M extends BaseModel>({ data, columns, loading, pagination = t
     }, [pageSize]);
 
     useEffect(() => {
-        const totalPages = Math.ceil(data.length / pageSize);
+        const totalPages = Math.ceil((remote?.totalRecords ?? data.length) / pageSize);
         if (totalPages && page > totalPages) {
             setPage(totalPages);
         }
     }, [data]);
 
     useEffect(() => {
+        if (remote) {
+            return;
+        }
+
         const from = (page - 1) * pageSize;
         const to = from + pageSize;
         const d = sortBy(data, sortStatus.columnAccessor) as M[];
@@ -74,7 +109,7 @@ const ViewTable = <M extends BaseModel>({ data, columns, loading, pagination = t
         ? {
               page,
               onPageChange: p => setPage(p),
-              totalRecords: data.length,
+              totalRecords: remote?.totalRecords ?? data.length,
               recordsPerPage: pageSize,
               recordsPerPageOptions: PAGE_SIZES,
               onRecordsPerPageChange: setPageSize,
@@ -1,11 +1,17 @@
 import { useCallback, useEffect, useState } from 'react';
 
-const useService = <T>(fetchMethod: () => Promise<T>) => {
-    const [data, setData] = useState<T>([] as T);
+/**
+ * Obtém dados por meio de um método de um service, obtendo-os novamente quando o método muda.
+ * @param fetchMethod método que obtém os dados
+ * @param initialData valor dos dados até que sejam obtidos
+ */
+const useService = <T>(fetchMethod: () => Promise<T>, initialData: T = [] as T) => {
+    const [data, setData] = useState<T>(initialData);
     const [error, setError] = useState<any>(null);
     const [loading, setLoading] = useState(true);
 
     const fetchData = useCallback(async () => {
+        setLoading(true);
         try {
             const responseData = await fetchMethod();
             setData(responseData);